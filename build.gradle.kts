@@ -15,6 +15,13 @@ plugins {
      * The runnable jar will be found in build/libs/projectname-all.jar
      */
     id("com.github.johnrengelman.shadow") version "7.0.0"
+
+    /*
+     * Adds the jmh source set for the benchmarks in src/jmh/java.
+     * In order to run them, launch the "jmh" task.
+     * The results will be found in build/results/jmh
+     */
+    id("me.champeau.jmh") version "0.6.6"
 }
 
 repositories {
@@ -32,6 +39,7 @@ val javaFXModules = listOf(
 
 val supportedPlatforms = listOf("linux", "mac", "win") // All required for OOP
 val jUnitVersion = "5.7.1"
+val jmhCoreVersion = "1.33"
 val javaFxVersion = 15
 
 dependencies {
@@ -59,6 +67,35 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+jmh {
+    jmhVersion.set(jmhCoreVersion)
+    // Reports the allocation rate and the collections next to the timings
+    profilers.add("gc")
+}
+
+// Compiles the text maps into the binary maps that Level loads in their place
+val compileLevels by tasks.registering(JavaExec::class) {
+    group = "build"
+    description = "Compiles the text maps in src/main/resources/segments into binary maps."
+    val textMaps = file("src/main/resources/segments")
+    val binaryMaps = layout.buildDirectory.dir("generated/levels/segments")
+    inputs.dir(textMaps)
+    outputs.dir(binaryMaps)
+    classpath = sourceSets["main"].output.classesDirs
+    mainClass.set("util.map.LevelCompiler")
+    args(textMaps.absolutePath, binaryMaps.get().asFile.absolutePath)
+}
+
+sourceSets["main"].resources.srcDir(files(layout.buildDirectory.dir("generated/levels")).builtBy(compileLevels))
+
+// Plays bot-vs-bot matches without JavaFX: ./gradlew headless --args="<matches> <seconds>"
+tasks.register<JavaExec>("headless") {
+    group = "application"
+    description = "Runs bot-vs-bot matches without the view and prints their outcome."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("app.Headless")
+}
+
 application {
     // Define the main class for the application
     mainClass.set("app.App")
@@ -0,0 +1,100 @@
+package benchmark;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.InstanceNotFoundException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import controller.SoundsController;
+import controller.weapon.BulletsController;
+import model.StageImpl;
+import model.character.Enemy;
+import model.character.tools.health.SimpleHealth;
+import model.weapons.BulletPool;
+import util.Vector2D;
+import view.sounds.SilentSoundSink;
+
+/**
+ * Measures a BulletsController tick with many bullets and enemies in the
+ * Player's segment. The bullets fly over the enemies, so that the measured
+ * time is spent on the collision checks and not on the hits.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BulletsControllerBenchmark {
+
+    private static final long SEED = 42;
+    private static final double ENEMIES_MAX_X = 11;
+    private static final double ENEMIES_MIN_Y = 9;
+    private static final double ENEMIES_HEIGHT = 2;
+    private static final double BULLETS_MIN_X = 1;
+    private static final double BULLETS_WIDTH = 34;
+    private static final double BULLETS_MIN_Y = 0.5;
+    private static final double BULLETS_HEIGHT = 7;
+
+    @Param({ "100", "1000" })
+    private int bullets;
+
+    @Param({ "20", "200" })
+    private int enemies;
+
+    private final Random random = new Random(SEED);
+    private StageImpl stage;
+    private BulletPool bulletPool;
+    private BulletsController bulletsController;
+
+    /**
+     * Creates the stage and places the enemies.
+     * 
+     * @throws IOException               if the text map is not present
+     * @throws InstanceNotFoundException if player spawn is not set in any text map
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InstanceNotFoundException {
+        this.stage = new StageImpl();
+        final Collection<Enemy> enemiesCollection = new LinkedList<>();
+        for (int i = 0; i < this.enemies; i++) {
+            enemiesCollection.add(new Enemy(new Vector2D(this.random.nextDouble() * ENEMIES_MAX_X,
+                    ENEMIES_MIN_Y + this.random.nextDouble() * ENEMIES_HEIGHT), new Vector2D(1, 1.5),
+                    new SimpleHealth()));
+        }
+        this.bulletPool = new BulletPool();
+        this.bulletsController = new BulletsController(this.stage.getPlayer(), this.bulletPool,
+                enemiesCollection, new SoundsController(new SilentSoundSink()), this.stage.getLevel());
+    }
+
+    /**
+     * Shoots the bullets again before every tick.
+     */
+    @Setup(Level.Invocation)
+    public void shoot() {
+        this.bulletPool.clear();
+        for (int i = 0; i < this.bullets; i++) {
+            this.bulletPool.add(this.stage.getPlayer());
+            this.bulletPool.setPosition(i, BULLETS_MIN_X + this.random.nextDouble() * BULLETS_WIDTH,
+                    BULLETS_MIN_Y + this.random.nextDouble() * BULLETS_HEIGHT);
+        }
+    }
+
+    /**
+     * A single bullets tick.
+     */
+    @Benchmark
+    public void controllerTick() {
+        this.bulletsController.controllerTick();
+    }
+}
@@ -0,0 +1,97 @@
+package benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import controller.character.CharacterController;
+import model.character.Enemy;
+import model.character.tools.health.SimpleHealth;
+import util.Pair;
+import util.Vector2D;
+
+/**
+ * Measures the movement of many characters walking in the first Segment: the
+ * physics step alone and the whole CharacterController tick, that adds the
+ * collisions with the map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CharacterBenchmark {
+
+    private static final long SEED = 42;
+    private static final double MIN_X = 1;
+    private static final double WIDTH = 34;
+    private static final double MIN_Y = 9;
+    private static final double HEIGHT = 2;
+
+    @Param({ "10", "100", "1000" })
+    private int characters;
+
+    private final Random random = new Random(SEED);
+    private model.map.Level level;
+    private Pair<Double, Double> bounds;
+    private Enemy[] enemies;
+    private CharacterController[] controllers;
+
+    /**
+     * Loads the level.
+     * 
+     * @throws IOException if the text map is not present
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.level = new model.map.Level(
+                List.of("segments/map.txt", "segments/map2.txt", "segments/map3.txt", "segments/map4.txt"));
+        this.bounds = new Pair<>(0d, this.level.getDistance(this.level.getSegments().get(0)));
+    }
+
+    /**
+     * Places the characters again before every iteration, half of them walking
+     * left and half walking right.
+     */
+    @Setup(Level.Iteration)
+    public void place() {
+        this.enemies = new Enemy[this.characters];
+        this.controllers = new CharacterController[this.characters];
+        for (int i = 0; i < this.characters; i++) {
+            this.enemies[i] = new Enemy(new Vector2D(MIN_X + this.random.nextDouble() * WIDTH,
+                    MIN_Y + this.random.nextDouble() * HEIGHT), new Vector2D(1, 1.5), new SimpleHealth());
+            this.enemies[i].setLeft(i % 2 == 0);
+            this.enemies[i].setRight(i % 2 != 0);
+            this.controllers[i] = new CharacterController(this.level, this.enemies[i]);
+        }
+    }
+
+    /**
+     * Moves every character without checking collisions.
+     */
+    @Benchmark
+    public void moveEntity() {
+        for (final Enemy enemy : this.enemies) {
+            enemy.moveEntity();
+        }
+    }
+
+    /**
+     * A CharacterController tick of every character.
+     */
+    @Benchmark
+    public void controllerTick() {
+        for (final CharacterController controller : this.controllers) {
+            controller.controllerTick(this.bounds, false);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import model.map.Level;
+import model.map.Segment;
+import util.Vector2D;
+import util.map.SegmentData;
+import util.map.SegmentGenerator;
+
+/**
+ * Measures the lookups on the map done by every collision check: the Segment
+ * at a position of the Level and the collidable Tile at a position of a
+ * Segment. Every invocation looks up {@link #POINTS} random positions. It also
+ * measures the generation of an endless Level's Segment, which must stay well
+ * under a millisecond.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapBenchmark {
+
+    private static final long SEED = 42;
+    private static final int POINTS = 1024;
+
+    private final Random random = new Random(SEED);
+    private final Vector2D[] segmentPositions = new Vector2D[POINTS];
+    private final Vector2D[] levelPositions = new Vector2D[POINTS];
+    private final SegmentGenerator generator = new SegmentGenerator(SEED);
+    private Level level;
+    private Segment segment;
+
+    /**
+     * Loads the level and picks the positions to look up.
+     * 
+     * @throws IOException if the text map is not present
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.level = new Level(
+                List.of("segments/map.txt", "segments/map2.txt", "segments/map3.txt", "segments/map4.txt"));
+        this.segment = this.level.getSegments().get(0);
+        for (int i = 0; i < POINTS; i++) {
+            this.segmentPositions[i] = new Vector2D(this.random.nextDouble() * this.segment.getWidth(),
+                    this.random.nextDouble() * this.segment.getHeight());
+            this.levelPositions[i] = new Vector2D(this.random.nextDouble() * this.level.getWidth(),
+                    this.random.nextDouble() * this.segment.getHeight());
+        }
+    }
+
+    /**
+     * Checks whether there is a collidable Tile at the positions.
+     * 
+     * @param blackhole consumes the results
+     */
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void isCollidableAtPosition(final Blackhole blackhole) {
+        for (final Vector2D position : this.segmentPositions) {
+            blackhole.consume(this.segment.isCollidableAtPosition(position));
+        }
+    }
+
+    /**
+     * Finds the Segments at the positions.
+     * 
+     * @param blackhole consumes the results
+     */
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void getSegmentAtPosition(final Blackhole blackhole) {
+        for (final Vector2D position : this.levelPositions) {
+            blackhole.consume(this.level.getSegmentAtPosition(position));
+        }
+    }
+
+    /**
+     * Generates the contents of a Segment.
+     * 
+     * @return the generated Segment
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public SegmentData generateSegment() {
+        return this.generator.next();
+    }
+
+    /**
+     * Generates a Segment and builds its Tiles, as it is done before appending
+     * it to an endless Level.
+     * 
+     * @return the generated Segment
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Segment generateAndBuildSegment() {
+        return new Segment(this.generator.next(), 0);
+    }
+}
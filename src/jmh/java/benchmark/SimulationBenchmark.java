@@ -0,0 +1,75 @@
+package benchmark;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.InstanceNotFoundException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import controller.SoundsController;
+import controller.Simulation;
+import model.StageImpl;
+import model.character.Enemy;
+import model.character.tools.health.SimpleHealth;
+import util.Vector2D;
+import view.sounds.SilentSoundSink;
+
+/**
+ * Measures the whole game tick, the one run by the Controller before
+ * refreshing the view, with many enemies fighting the player in the first
+ * Segment. The match is started again before every iteration. The gc
+ * profiler's gc.alloc.rate.norm shows the bytes allocated by a tick, which
+ * stay close to zero once the match is running.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SimulationBenchmark {
+
+    private static final long SEED = 42;
+    private static final double MIN_X = 1;
+    private static final double WIDTH = 34;
+    private static final double MIN_Y = 9;
+    private static final double HEIGHT = 2;
+
+    @Param({ "10", "100", "1000" })
+    private int enemies;
+
+    private final Random random = new Random(SEED);
+    private Simulation simulation;
+
+    /**
+     * Creates the stage, adds the enemies and starts the match.
+     * 
+     * @throws IOException               if the text map is not present
+     * @throws InstanceNotFoundException if player spawn is not set in any text map
+     */
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException, InstanceNotFoundException {
+        final StageImpl stage = new StageImpl();
+        for (int i = 0; i < this.enemies; i++) {
+            stage.getEnemies().add(new Enemy(new Vector2D(MIN_X + this.random.nextDouble() * WIDTH,
+                    MIN_Y + this.random.nextDouble() * HEIGHT), new Vector2D(1, 1.5), new SimpleHealth()));
+        }
+        this.simulation = new Simulation(stage, new SoundsController(new SilentSoundSink()),
+                Simulation.segmentBounds(stage));
+    }
+
+    /**
+     * A single game tick.
+     */
+    @Benchmark
+    public void tick() {
+        this.simulation.tick();
+    }
+}
@@ -0,0 +1,61 @@
+package app;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.management.InstanceNotFoundException;
+
+import controller.HeadlessMatch;
+import controller.HeadlessMatch.Outcome;
+import model.character.movableentity.EntityConstants;
+import util.map.SegmentGenerator;
+
+/**
+ * Plays matches between bots without starting JavaFX and prints how they
+ * ended. The first argument is the number of matches (100 by default), the
+ * second one the maximum length of a match in seconds of game time (300 by
+ * default). If there is a third one, the matches are played on endless Levels
+ * generated from that seed onwards, one seed per match, which also seeds the
+ * random values of the match: the same arguments always give the same results.
+ *
+ */
+public final class Headless {
+
+    private static final int DEFAULT_MATCHES = 100;
+    private static final int DEFAULT_SECONDS = 300;
+
+    private Headless() {
+        // the constructor will never be called directly.
+    }
+
+    /**
+     * Main method.
+     *
+     * @param args
+     * @throws IOException               if the text map is not present
+     * @throws InstanceNotFoundException if player spawn is not set in any text map
+     */
+    public static void main(final String... args) throws InstanceNotFoundException, IOException {
+        final int matches = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MATCHES;
+        final int maxTicks = (int) ((args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS) * EntityConstants.TPS);
+        final Map<Outcome, Integer> outcomes = new EnumMap<>(Outcome.class);
+        long ticks = 0;
+        long kills = 0;
+        final long start = System.nanoTime();
+        for (int i = 0; i < matches; i++) {
+            final var match = args.length > 2
+                    ? new HeadlessMatch(new SegmentGenerator(Long.parseLong(args[2]) + i), Long.parseLong(args[2]) + i)
+                    : new HeadlessMatch();
+            outcomes.merge(match.play(maxTicks), 1, Integer::sum);
+            ticks += match.getTicks();
+            kills += match.getKills();
+        }
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println("matches: " + matches + " in " + String.format("%.2f", seconds) + "s");
+        for (final Outcome outcome : Outcome.values()) {
+            System.out.println(outcome + ": " + outcomes.getOrDefault(outcome, 0));
+        }
+        System.out.println("ticks: " + ticks + ", kills: " + kills);
+    }
+}
@@ -0,0 +1,70 @@
+package app;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import javax.management.InstanceNotFoundException;
+
+import controller.InputReplay;
+
+/**
+ * Plays a match recorded by the game, with the property
+ * {@link controller.Controller#RECORD_PROPERTY} set, as fast as possible and
+ * prints how long its ticks took. The first argument is the path of the
+ * recording, the second one how many times it's played (5 by default): the
+ * first plays warm up the JVM, so the last ones are the ones to compare
+ * between two versions of the game. The last play also measures the phases
+ * of the ticks, and they are printed at the end.
+ *
+ */
+public final class Replay {
+
+    private static final int DEFAULT_REPETITIONS = 5;
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double P50 = 0.5;
+    private static final double P99 = 0.99;
+
+    private Replay() {
+        // the constructor will never be called directly.
+    }
+
+    /**
+     * Main method.
+     *
+     * @param args
+     * @throws IOException               if the recording or the text map can't be read
+     * @throws InstanceNotFoundException if player spawn is not set in any text map
+     */
+    public static void main(final String... args) throws InstanceNotFoundException, IOException {
+        final InputReplay replay;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(Path.of(args[0])))) {
+            replay = new InputReplay(in);
+        }
+        final int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_REPETITIONS;
+        System.out.println("ticks: " + replay.getTicks() + ", level: " + replay.getLevelKind()
+                + ", seed: " + replay.getSeed());
+        for (int i = 0; i < repetitions; i++) {
+            replay.setProfiled(i == repetitions - 1);
+            final long[] durations = replay.play();
+            final double total = Arrays.stream(durations).sum() / NANOS_PER_MILLI;
+            Arrays.sort(durations);
+            System.out.println(String.format("#%d total %.2fms, mean %.4fms, p50 %.4fms, p99 %.4fms, max %.4fms",
+                    i + 1, total, durations.length == 0 ? 0 : total / durations.length,
+                    millis(durations, P50), millis(durations, P99), millis(durations, 1)));
+        }
+        if (replay.getSimulation() != null) {
+            System.out.print(replay.getSimulation().getProfiler().summary());
+        }
+    }
+
+    private static double millis(final long[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) (percentile * sorted.length))] / NANOS_PER_MILLI;
+    }
+}
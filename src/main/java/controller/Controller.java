@@ -1,61 +1,102 @@
 package controller;
 
+import controller.InputRecorder.LevelKind;
 import controller.character.PlayerController;
-import controller.character.enemy.EnemyController;
-import controller.weapon.BulletsController;
-import controller.weapon.WeaponController;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.util.Collection;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import javax.management.InstanceNotFoundException;
 
 import model.StageImpl;
 import model.character.Character;
-import model.weapons.Kraber;
-import model.weapons.PeaceKeeper;
-import model.weapons.R99;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.event.ActionEvent;
-import javafx.event.EventHandler;
+import model.character.movableentity.EntityConstants;
+import model.map.Level;
 import javafx.scene.input.KeyCode;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 import util.Pair;
+import util.RandomSource;
 import util.UserData;
-import util.direction.DirectionHorizontal;
-import util.direction.DirectionVertical;
+import util.map.SegmentFiles;
+import util.map.SegmentGenerator;
+import util.map.SegmentSource;
 import view.GameView;
+import view.sounds.SoundManager;
 import view.sounds.SoundManager.Sounds;
 
 /**
- * The main controller. It contains all sub-controllers and it manages the game
+ * The main controller. It contains the simulation of the match and it manages the game
  * loop.
  */
 public class Controller {
 
-    private final PlayerController playerController;
-    private final Collection<EnemyController> enemiesController;
-    private final BulletsController bulletsController;
-    private final WeaponController weaponController;
+    private final Simulation simulation;
     private final SoundsController soundsController;
     private final StageImpl stage;
-    private final Timeline gameLoop;
+    private final GameLoop gameLoop;
     private final UserData userData;
     private boolean paused;
 
     /**
      * Ticks per second. A unit that represent how many steps are calculated in a
-     * second.
+     * second, see {@link EntityConstants#TPS}.
      */
-    public static final double TPS = 60;
+    public static final double TPS = EntityConstants.TPS;
+
+    /**
+     * System property that, when true, streams the Segments of the Level while
+     * it is played instead of loading all of them up front.
+     */
+    public static final String STREAMING_LEVEL_PROPERTY = "metalshot.streamLevel";
+    /**
+     * System property with the seed of the random values of the match, which
+     * is then played the same way every time.
+     */
+    public static final String SEED_PROPERTY = "metalshot.seed";
+    /**
+     * System property with the seed of an endless Level, whose Segments are
+     * generated while it is played.
+     */
+    public static final String ENDLESS_SEED_PROPERTY = "metalshot.endlessSeed";
+    /**
+     * System property with the path of a file where the input of the match is
+     * recorded, to be played again by {@link InputReplay}.
+     */
+    public static final String RECORD_PROPERTY = "metalshot.record";
+    /**
+     * System property with the path of a file where the metrics of the ticks
+     * are exported when the match is left. It also starts the match with the
+     * ticks measured, which otherwise happens only while the metrics are
+     * shown, by pressing F3.
+     */
+    public static final String PROFILE_PROPERTY = "metalshot.profile";
+    /**
+     * System property with the time, in microseconds, the enemies may spend
+     * thinking during a tick. There is no budget by default, since with one a
+     * recorded match may be played differently again.
+     */
+    public static final String AI_BUDGET_PROPERTY = "metalshot.aiBudget";
+    /**
+     * How many ticks the shown metrics last before being refreshed.
+     */
+    private static final int METRICS_REFRESH_TICKS = (int) (TPS / 2);
 
     private final GameView viewReference;
+    private final PlayerInput input = new PlayerInput();
+    private final Supplier<Pair<Double, Double>> bounds;
+    private final Optional<InputRecorder> recorder;
+    private final Optional<Path> metricsPath;
+    private final TickProfiler profiler;
+    private int ticksSinceMetrics;
 
     /**
      * The main controller constructor.
@@ -67,7 +108,27 @@ public class Controller {
      */
     public Controller(final String userName, final Stage primaryStage) throws InstanceNotFoundException, IOException {
         this.userData = new UserData(userName);
-        this.stage = new StageImpl();
+        final Long seed = Long.getLong(ENDLESS_SEED_PROPERTY);
+        final Optional<SegmentSource> source = seed != null ? Optional.of(new SegmentGenerator(seed))
+                : Boolean.getBoolean(STREAMING_LEVEL_PROPERTY) ? Optional.of(new SegmentFiles(StageImpl.SEGMENTS))
+                : Optional.empty();
+        final Optional<LevelStreamer> streamer = source.isPresent()
+                ? Optional.of(new LevelStreamer(new Level(), source.get()))
+                : Optional.empty();
+        final Long randomSeed = Long.getLong(SEED_PROPERTY);
+        // a recorded match needs to know its seed
+        final long matchSeed = randomSeed != null ? randomSeed : new SplittableRandom().nextLong();
+        this.stage = new StageImpl(streamer.isPresent() ? streamer.get().getLevel() : new Level(StageImpl.SEGMENTS),
+                new RandomSource(matchSeed));
+        final String recording = System.getProperty(RECORD_PROPERTY);
+        if (recording != null) {
+            final LevelKind kind = seed != null ? LevelKind.ENDLESS
+                    : streamer.isPresent() ? LevelKind.STREAMED : LevelKind.BUNDLED;
+            this.recorder = Optional.of(new InputRecorder(new BufferedOutputStream(
+                    Files.newOutputStream(Path.of(recording))), matchSeed, kind, seed != null ? seed : 0));
+        } else {
+            this.recorder = Optional.empty();
+        }
         final boolean fs = primaryStage.isFullScreen();
         final var dim = new Pair<>(primaryStage.getWidth(), primaryStage.getHeight());
         this.viewReference = new GameView(this);
@@ -75,75 +136,22 @@ public class Controller {
         primaryStage.setFullScreen(fs);
         primaryStage.setWidth(dim.getX());
         primaryStage.setHeight(dim.getY());
-        this.enemiesController = new LinkedList<>();
-        this.weaponController = new WeaponController();
-        this.playerController = new PlayerController(this.stage.getLevel(), this.stage.getPlayer());
-        this.soundsController = new SoundsController();
-        this.bulletsController = new BulletsController(this.stage.getPlayer(), this.stage.getBullets(),
-                this.stage.getEnemies(), this.soundsController, this.stage.getLevel());
-        this.stage.getEnemies().forEach(
-                e -> enemiesController.add(new EnemyController(this.stage.getLevel(), e, this.stage.getPlayer())));
-
-        refreshEnemiesStatus();
-
-        this.gameLoop = new Timeline(new KeyFrame(Duration.seconds(1 / TPS), new EventHandler<ActionEvent>() {
-
-            @Override
-            public void handle(final ActionEvent event) {
-                if (paused) {
-                    viewReference.menuRefresh();
-                } else {
-                    final var remove = new LinkedList<EnemyController>();
-
-                    enemiesController.forEach(e -> {
-                        if (e.isActive()) {
-                            e.controllerTick(viewReference.getCameraManager().getBounds(), false);
-                            if (e.getCharacter().isShooting()) {
-                                 e.fire(weaponController, bulletsController, soundsController);
-                            }
-                            if (e.isDead()) {
-                                remove.add(e);
-                                userData.increasePoints();
-                            }
-                        }
-                    });
-
-                    if (!remove.isEmpty()) {
-                        remove.forEach(e -> removeEnemy(e));
-                    }
-
-                    weaponController.controllerTick();
-                    bulletsController.controllerTick();
-
-                    playerController.controllerTick(viewReference.getCameraManager().getBounds(),
-                            stage.getEnemies().stream()
-                                    .filter(t -> stage.getLevel().getSegmentAtPosition(stage.getPlayer().getPosition())
-                                            .equals(stage.getLevel().getSegmentAtPosition(t.getPosition())))
-                                    .collect(Collectors.toSet()).isEmpty());
-                    if (playerController.getCharacter().isShooting()) {
-                        playerController.fire(weaponController, bulletsController, soundsController);
-                    }
-
-                    if (playerController.isDead()) {
-                        gameOver();
-                    }
-
-                    soundsController.controllerTick();
-
-                    if (stage.getLevel().getSegmentAtPosition(stage.getPlayer().getPosition())
-                            .equals(stage.getLevel().getSegments().get(stage.getLevel().getSegments().size() - 1))) {
-
-                        viewReference.displayWinMenu();
-                        gameLoop.pause();
-
-                    }
-
-                    viewReference.refresh(stage);
-                }
-            }
-        }));
-        this.gameLoop.setCycleCount(Timeline.INDEFINITE);
-        this.gameLoop.play();
+        this.soundsController = new SoundsController(new SoundManager(), this.stage.getRandom().split());
+        this.bounds = () -> viewReference.getCameraManager().getBounds();
+        if (streamer.isPresent()) {
+            this.simulation = new Simulation(this.stage, this.soundsController, bounds, streamer.get());
+            streamer.get().addListener(viewReference.getCameraManager());
+        } else {
+            this.simulation = new Simulation(this.stage, this.soundsController, bounds);
+        }
+        this.simulation.getScheduler().setBudget(TimeUnit.MICROSECONDS.toNanos(Long.getLong(AI_BUDGET_PROPERTY, 0)));
+        this.profiler = this.simulation.getProfiler();
+        final String metrics = System.getProperty(PROFILE_PROPERTY);
+        this.metricsPath = metrics != null ? Optional.of(Path.of(metrics)) : Optional.empty();
+        this.profiler.setEnabled(this.metricsPath.isPresent());
+
+        this.gameLoop = new GameLoop(this::tick, this::render);
+        this.gameLoop.start();
         resume();
     }
 
@@ -151,6 +159,7 @@ public class Controller {
      * Pause the game loop and display the pause menu.
      */
     public void gamePause() {
+        this.saveRecords();
         this.soundsController.stopSound(Sounds.MAIN_THEME);
         this.paused = true;
         this.viewReference.displayPauseMenu();
@@ -160,7 +169,8 @@ public class Controller {
      * Display the game over menu.
      */
     public void gameOver() {
-        this.gameLoop.pause();
+        this.saveRecords();
+        this.gameLoop.stop();
         this.viewReference.displayGameOverMenu();
     }
 
@@ -182,48 +192,22 @@ public class Controller {
     }
 
     /**
-     * Handles the input key from standard input on it's press.
+     * Handles the input key from standard input on it's press. The player's
+     * buttons are applied at the beginning of the next tick.
      * 
      * @param key the key pressed
      * @throws IOException if the pause menu fxml sheet doesn't exist.
      */
     public void keyPressed(final KeyCode key) {
-        if (key == KeyCode.A) {
-            stage.getPlayer().setLeft(true);
-            stage.getPlayer().getAim().setHorizontal(DirectionHorizontal.LEFT);
-        }
-        if (key == KeyCode.D) {
-            stage.getPlayer().setRight(true);
-            stage.getPlayer().getAim().setHorizontal(DirectionHorizontal.RIGHT);
-        }
-        if (key == KeyCode.W) {
-            stage.getPlayer().getAim().setVertical(DirectionVertical.UP);
-        }
-        if (key == KeyCode.SPACE) {
-            if (!stage.getPlayer().isJumping() && !stage.getPlayer().isFalling()) {
-                this.soundsController.playSound(Sounds.JUMP_1);
-            }
-            stage.getPlayer().setJump(true);
-        }
-        if (key == KeyCode.S) {
-            stage.getPlayer().setCrouchKey(true);
-            stage.getPlayer().getAim().setVertical(DirectionVertical.DOWN);
-        }
-        if (key.equals(KeyCode.J)) {
-            this.stage.getPlayer().setFire(true);
-        }
         if (key == KeyCode.ESCAPE) {
             this.gamePause();
         }
-        if (key == KeyCode.DIGIT1) {
-            this.stage.getPlayer().setWeapon(new R99());
-        }
-        if (key == KeyCode.DIGIT2) {
-            this.stage.getPlayer().setWeapon(new PeaceKeeper());
-        }
-        if (key == KeyCode.DIGIT3) {
-            this.stage.getPlayer().setWeapon(new Kraber());
+        if (key == KeyCode.F3) {
+            final boolean visible = !this.viewReference.getHud().isMetricsVisible();
+            this.viewReference.getHud().setMetricsVisible(visible);
+            this.profiler.setEnabled(visible || this.metricsPath.isPresent());
         }
+        this.input.press(buttonOf(key));
     }
 
     /**
@@ -232,24 +216,31 @@ public class Controller {
      * @param key the key released
      */
     public void keyReleased(final KeyCode key) {
-        if (key == KeyCode.A) {
-            stage.getPlayer().setLeft(false);
-        }
-        if (key == KeyCode.D) {
-            stage.getPlayer().setRight(false);
-        }
-        if (key == KeyCode.W) {
-            stage.getPlayer().getAim().returnToHorizontal();
-        }
-        if (key == KeyCode.SPACE) {
-            stage.getPlayer().setJump(false);
-        }
-        if (key == KeyCode.S) {
-            stage.getPlayer().setCrouchKey(false);
-            stage.getPlayer().getAim().returnToHorizontal();
-        }
-        if (key == KeyCode.J) {
-            this.stage.getPlayer().setFire(false);
+        this.input.release(buttonOf(key));
+    }
+
+    private static int buttonOf(final KeyCode key) {
+        switch (key) {
+        case A:
+            return PlayerInput.LEFT;
+        case D:
+            return PlayerInput.RIGHT;
+        case W:
+            return PlayerInput.UP;
+        case SPACE:
+            return PlayerInput.JUMP;
+        case S:
+            return PlayerInput.CROUCH;
+        case J:
+            return PlayerInput.FIRE;
+        case DIGIT1:
+            return PlayerInput.WEAPON_1;
+        case DIGIT2:
+            return PlayerInput.WEAPON_2;
+        case DIGIT3:
+            return PlayerInput.WEAPON_3;
+        default:
+            return 0;
         }
     }
 
@@ -262,7 +253,7 @@ public class Controller {
      * @return PlayerController
      */
     public PlayerController getPlayerController() {
-        return this.playerController;
+        return this.simulation.getPlayerController();
     }
 
     /**
@@ -289,19 +280,83 @@ public class Controller {
      * Pause the enemies that are in a segment different from the Player segment.
      */
     public void refreshEnemiesStatus() {
-        enemiesController.forEach(e -> {
-            if (stage.getLevel().getSegmentAtPosition(e.getCharacter().getPosition()) != stage.getLevel()
-                    .getSegmentAtPosition(stage.getPlayer().getPosition())) {
-                e.setActive(false);
-            } else {
-                e.setActive(true);
+        this.simulation.refreshEnemiesStatus();
+    }
+
+    /*
+     * Writes the recorded input and the metrics of the ticks, whenever the
+     * match may be left.
+     */
+    private void saveRecords() {
+        if (recorder.isPresent()) {
+            try {
+                recorder.get().flush();
+            } catch (IOException e) {
+                throw new IllegalStateException("Can't record the input", e);
+            }
+        }
+        if (metricsPath.isPresent()) {
+            try (Writer out = Files.newBufferedWriter(metricsPath.get())) {
+                profiler.export(out);
+            } catch (IOException e) {
+                throw new IllegalStateException("Can't export the tick metrics", e);
+            }
+        }
+    }
+
+    /**
+     * A single step of the game: it ticks the simulation and keeps what the
+     * next frame needs, leaving the scene to {@link #render(double)}.
+     */
+    private void tick() {
+        if (paused) {
+            return;
+        }
+        final int buttons = input.poll();
+        if (recorder.isPresent()) {
+            try {
+                recorder.get().record(buttons, bounds.get());
+            } catch (IOException e) {
+                throw new IllegalStateException("Can't record the input", e);
             }
-        });
+        }
+        for (int kills = simulation.tick(buttons); kills > 0; kills--) {
+            userData.increasePoints();
+        }
+
+        if (simulation.isPlayerDead()) {
+            gameOver();
+        }
+
+        if (simulation.isLevelCompleted()) {
+
+            this.saveRecords();
+            viewReference.displayWinMenu();
+            gameLoop.stop();
+
+        }
+
+        viewReference.snapshot(stage);
+        ticksSinceMetrics++;
     }
 
-    private void removeEnemy(final EnemyController enemyController) {
-        enemiesController.remove(enemyController);
-        stage.getEnemies().remove(enemyController.getCharacter());
+    /**
+     * Renders a frame, once per frame however many ticks were run before it.
+     *
+     * @param alpha how far the frame is between the last tick and the next one
+     */
+    private void render(final double alpha) {
+        if (paused) {
+            viewReference.menuRefresh();
+            return;
+        }
+        profiler.start();
+        viewReference.render(alpha);
+        profiler.lap(TickProfiler.Phase.VIEW);
+        if (viewReference.getHud().isMetricsVisible() && ticksSinceMetrics >= METRICS_REFRESH_TICKS) {
+            ticksSinceMetrics = 0;
+            viewReference.getHud().refreshMetrics(profiler.summary());
+        }
     }
 
 }
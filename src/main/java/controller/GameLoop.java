@@ -0,0 +1,84 @@
+package controller;
+
+import java.util.function.DoubleConsumer;
+
+import javafx.animation.AnimationTimer;
+import model.character.movableentity.EntityConstants;
+
+/**
+ * A fixed timestep game loop. The simulation is stepped at a constant rate of
+ * {@link EntityConstants#TPS} ticks per second, accumulating the time elapsed
+ * between two rendered frames; the rendering happens once per frame, after
+ * the ticks, and receives how far (from 0 to 1) the loop is between the last
+ * tick and the next one. This way a slow frame is caught up by running more
+ * ticks before the next render, while a fast display renders more frames
+ * between two ticks.
+ */
+public class GameLoop extends AnimationTimer {
+
+    /**
+     * Duration of a tick, in nanoseconds.
+     */
+    public static final long TICK_NANOS = Math.round(1_000_000_000 / EntityConstants.TPS);
+    /**
+     * The longest time caught up in a single frame, so that a very long stall (a
+     * breakpoint, the window being dragged, ...) doesn't make the loop run
+     * hundreds of ticks at once.
+     */
+    private static final long MAX_FRAME_NANOS = 15 * TICK_NANOS;
+
+    private final Runnable tick;
+    private final DoubleConsumer render;
+    private long previousFrame = -1;
+    private long accumulator;
+    private boolean running;
+
+    /**
+     * Creates the game loop.
+     * 
+     * @param tick   the simulation step
+     * @param render the rendering of a frame, accepting the interpolation factor
+     *               between the previous tick and the current one
+     */
+    public GameLoop(final Runnable tick, final DoubleConsumer render) {
+        super();
+        this.tick = tick;
+        this.render = render;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handle(final long now) {
+        if (this.previousFrame < 0) {
+            this.previousFrame = now;
+        }
+        this.accumulator += Math.min(now - this.previousFrame, MAX_FRAME_NANOS);
+        this.previousFrame = now;
+        while (this.running && this.accumulator >= TICK_NANOS) {
+            this.tick.run();
+            this.accumulator -= TICK_NANOS;
+        }
+        this.render.accept((double) this.accumulator / TICK_NANOS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        this.running = true;
+        this.previousFrame = -1;
+        super.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        this.running = false;
+        super.stop();
+    }
+}
@@ -0,0 +1,158 @@
+package controller;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import javax.management.InstanceNotFoundException;
+
+import controller.character.PlayerBot;
+import model.StageImpl;
+import model.map.Level;
+import util.RandomSource;
+import util.map.SegmentSource;
+import view.sounds.SilentSoundSink;
+
+/**
+ * A match played by bots only, without view and sounds: the player is moved by
+ * a {@link PlayerBot} and the ticks are run one after the other, as fast as
+ * possible.
+ */
+public class HeadlessMatch {
+
+    /**
+     * How a match ended.
+     */
+    public enum Outcome {
+        /**
+         * The player reached the last segment.
+         */
+        WIN,
+        /**
+         * The player died.
+         */
+        DEATH,
+        /**
+         * The match lasted more than the given ticks.
+         */
+        TIMEOUT
+    }
+
+    private final Simulation simulation;
+    private final PlayerBot playerBot;
+    private int ticks;
+    private int kills;
+
+    /**
+     * Creates a match on a new stage.
+     *
+     * @throws IOException               if the text map is not present
+     * @throws InstanceNotFoundException if player spawn is not set in any text map
+     */
+    public HeadlessMatch() throws InstanceNotFoundException, IOException {
+        this(new StageImpl(), Optional.empty());
+    }
+
+    /**
+     * Creates a match on a new stage that is played the same way every time
+     * it's created with the same seed.
+     *
+     * @param seed the seed of the random values of the match
+     * @throws IOException               if the text map is not present
+     * @throws InstanceNotFoundException if player spawn is not set in any text map
+     */
+    public HeadlessMatch(final long seed) throws InstanceNotFoundException, IOException {
+        this(new StageImpl(new Level(StageImpl.SEGMENTS), new RandomSource(seed)), Optional.empty());
+    }
+
+    /**
+     * Creates a match on a new stage whose Segments are streamed from the
+     * given source.
+     *
+     * @param source where the Segments of the Level are read from
+     * @throws IOException               if the first Segments can't be read
+     * @throws InstanceNotFoundException if player spawn is not set in the first Segment
+     */
+    public HeadlessMatch(final SegmentSource source) throws InstanceNotFoundException, IOException {
+        this(new LevelStreamer(new Level(), source), new RandomSource());
+    }
+
+    /**
+     * Creates a match on a new stage whose Segments are streamed from the
+     * given source, with the random values drawn from the given seed.
+     *
+     * @param source where the Segments of the Level are read from
+     * @param seed   the seed of the random values of the match
+     * @throws IOException               if the first Segments can't be read
+     * @throws InstanceNotFoundException if player spawn is not set in the first Segment
+     */
+    public HeadlessMatch(final SegmentSource source, final long seed) throws InstanceNotFoundException, IOException {
+        this(new LevelStreamer(new Level(), source), new RandomSource(seed));
+    }
+
+    private HeadlessMatch(final LevelStreamer streamer, final RandomSource random) throws InstanceNotFoundException {
+        this(new StageImpl(streamer.getLevel(), random), Optional.of(streamer));
+    }
+
+    private HeadlessMatch(final StageImpl stage, final Optional<LevelStreamer> streamer) {
+        final SoundsController sounds = new SoundsController(new SilentSoundSink(), stage.getRandom().split());
+        this.simulation = streamer.isPresent()
+                ? new Simulation(stage, sounds, Simulation.segmentBounds(stage), streamer.get())
+                : new Simulation(stage, sounds, Simulation.segmentBounds(stage));
+        this.playerBot = new PlayerBot(this.simulation.getStage().getPlayer(), this.simulation.getStage().getLevel(),
+                this.simulation.getBlackboard());
+    }
+
+    /**
+     * Plays the match until the player wins or dies.
+     *
+     * @param maxTicks the ticks after which the match is stopped
+     * @return how the match ended
+     */
+    public Outcome play(final int maxTicks) {
+        final var level = this.simulation.getStage().getLevel();
+        final var player = this.simulation.getStage().getPlayer();
+        int segment = level.getSegmentIndex(player.getPosition().getX());
+        while (this.ticks < maxTicks) {
+            this.playerBot.controllerTick();
+            this.kills += this.simulation.tick();
+            this.ticks++;
+            if (this.simulation.isPlayerDead()) {
+                return Outcome.DEATH;
+            }
+            if (this.simulation.isLevelCompleted()) {
+                return Outcome.WIN;
+            }
+            final int currentSegment = level.getSegmentIndex(player.getPosition().getX());
+            if (currentSegment != segment) {
+                segment = currentSegment;
+                this.simulation.refreshEnemiesStatus();
+            }
+        }
+        return Outcome.TIMEOUT;
+    }
+
+    /**
+     *
+     * @return the ticks played so far
+     */
+    public int getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     *
+     * @return the enemies killed so far
+     */
+    public int getKills() {
+        return this.kills;
+    }
+
+    /**
+     * Gets the simulation of the match.
+     *
+     * @return Simulation
+     */
+    public Simulation getSimulation() {
+        return this.simulation;
+    }
+}
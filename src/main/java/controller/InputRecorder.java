@@ -0,0 +1,147 @@
+package controller;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import util.Pair;
+
+/**
+ * Records what a match needs to be played again by {@link InputReplay}: the
+ * seed of its random values, how its Level is made and, for every tick, the
+ * buttons held by the player and the camera bounds, which depend on the size
+ * of the window.
+ * <p>
+ * The recording starts with a header: the magic number, the version, the
+ * seed, the kind of Level and, for endless Levels, their seed. Then come runs
+ * of ticks with the same input: the buttons, shifted left by one bit, with the
+ * lowest bit set if the bounds changed at the first tick of the run, as a
+ * variable-length int; the new left and right bounds, if they changed, as
+ * doubles; the length of the run, as a variable-length int. The recording ends
+ * with the stream.
+ */
+public class InputRecorder implements Closeable {
+
+    /**
+     * How the Level of the recorded match is made.
+     */
+    public enum LevelKind {
+        /**
+         * The bundled Segments, loaded up front.
+         */
+        BUNDLED,
+        /**
+         * The bundled Segments, streamed while the match is played.
+         */
+        STREAMED,
+        /**
+         * Generated Segments, streamed while the match is played.
+         */
+        ENDLESS
+    }
+
+    /**
+     * The first bytes of every recording, "MSIR".
+     */
+    static final int MAGIC = 0x4D53_4952;
+    /**
+     * The version of the format written.
+     */
+    static final byte VERSION = 1;
+
+    private static final int SEVEN_BITS = 0x7F;
+    private static final int MORE = 0x80;
+
+    private final DataOutputStream out;
+    private int buttons;
+    private int run;
+    private boolean boundsChanged;
+    private double leftBound = Double.NaN;
+    private double rightBound = Double.NaN;
+
+    /**
+     * Starts a recording, writing its header.
+     *
+     * @param out       where the recording is written
+     * @param seed      the seed of the random values of the match
+     * @param kind      how the Level of the match is made
+     * @param levelSeed the seed of an endless Level, ignored by the other kinds
+     * @throws IOException if the header can't be written
+     */
+    public InputRecorder(final OutputStream out, final long seed, final LevelKind kind, final long levelSeed)
+            throws IOException {
+        this.out = new DataOutputStream(out);
+        this.out.writeInt(MAGIC);
+        this.out.writeByte(VERSION);
+        this.out.writeLong(seed);
+        this.out.writeByte(kind.ordinal());
+        if (kind == LevelKind.ENDLESS) {
+            this.out.writeLong(levelSeed);
+        }
+    }
+
+    /**
+     * Records a tick, right before it's run.
+     *
+     * @param input  the mask of the buttons held, see {@link PlayerInput}
+     * @param bounds the camera bounds used by the tick
+     * @throws IOException if the previous run can't be written
+     */
+    public void record(final int input, final Pair<Double, Double> bounds) throws IOException {
+        final boolean changed = bounds.getX() != this.leftBound || bounds.getY() != this.rightBound;
+        if (this.run > 0 && (changed || input != this.buttons)) {
+            this.writeRun();
+        }
+        if (this.run == 0) {
+            this.buttons = input;
+            this.boundsChanged = changed;
+            this.leftBound = bounds.getX();
+            this.rightBound = bounds.getY();
+        }
+        this.run++;
+    }
+
+    /**
+     * Writes the ticks recorded so far, so that the recording can be played
+     * even if the game is closed right after.
+     *
+     * @throws IOException if they can't be written
+     */
+    public void flush() throws IOException {
+        if (this.run > 0) {
+            this.writeRun();
+        }
+        this.out.flush();
+    }
+
+    /**
+     * Writes the ticks recorded so far and closes the stream.
+     *
+     * @throws IOException if they can't be written
+     */
+    @Override
+    public void close() throws IOException {
+        this.flush();
+        this.out.close();
+    }
+
+    private void writeRun() throws IOException {
+        this.writeVarint(this.buttons << 1 | (this.boundsChanged ? 1 : 0));
+        if (this.boundsChanged) {
+            this.out.writeDouble(this.leftBound);
+            this.out.writeDouble(this.rightBound);
+        }
+        this.writeVarint(this.run);
+        this.run = 0;
+    }
+
+    private void writeVarint(final int value) throws IOException {
+        int rest = value;
+        while ((rest & ~SEVEN_BITS) != 0) {
+            this.out.writeByte(rest & SEVEN_BITS | MORE);
+            rest >>>= 7;
+        }
+        this.out.writeByte(rest);
+    }
+}
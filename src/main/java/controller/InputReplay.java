@@ -0,0 +1,205 @@
+package controller;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import javax.management.InstanceNotFoundException;
+
+import controller.InputRecorder.LevelKind;
+import model.StageImpl;
+import model.map.Level;
+import util.Pair;
+import util.RandomSource;
+import util.map.SegmentFiles;
+import util.map.SegmentGenerator;
+import view.sounds.SilentSoundSink;
+
+/**
+ * A match recorded by {@link InputRecorder}, played again without view and
+ * sounds by feeding the recorded input to {@link Simulation#tick(int)}, one
+ * tick after the other and as fast as possible. The same recording is always
+ * played the same way, so it can be used as a repeatable workload.
+ */
+public class InputReplay {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int SEVEN_BITS = 0x7F;
+    private static final int MORE = 0x80;
+
+    private final long seed;
+    private final LevelKind kind;
+    private final long levelSeed;
+    /*
+     * The runs of ticks with the same input, as recorded.
+     */
+    private int[] buttons = new int[INITIAL_CAPACITY];
+    private double[] leftBounds = new double[INITIAL_CAPACITY];
+    private double[] rightBounds = new double[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int runs;
+    private int ticks;
+    private Pair<Double, Double> bounds;
+    private Simulation simulation;
+    private boolean profiled;
+
+    /**
+     * Reads a whole recording.
+     *
+     * @param in where the recording is read from
+     * @throws IOException if the recording can't be read or it's not valid
+     */
+    public InputReplay(final InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != InputRecorder.MAGIC || data.readByte() != InputRecorder.VERSION) {
+            throw new IOException("Not a recording of a supported version");
+        }
+        this.seed = data.readLong();
+        final int kindIndex = data.readByte();
+        if (kindIndex < 0 || kindIndex >= LevelKind.values().length) {
+            throw new IOException("Unknown kind of Level " + kindIndex);
+        }
+        this.kind = LevelKind.values()[kindIndex];
+        this.levelSeed = this.kind == LevelKind.ENDLESS ? data.readLong() : 0;
+        double leftBound = Double.NaN;
+        double rightBound = Double.NaN;
+        int first = data.read();
+        while (first >= 0) {
+            final int code = readVarint(data, first);
+            if ((code & 1) != 0) {
+                leftBound = data.readDouble();
+                rightBound = data.readDouble();
+            }
+            if (this.runs == this.buttons.length) {
+                this.grow();
+            }
+            this.buttons[this.runs] = code >>> 1;
+            this.leftBounds[this.runs] = leftBound;
+            this.rightBounds[this.runs] = rightBound;
+            this.lengths[this.runs] = readVarint(data, data.readUnsignedByte());
+            this.ticks += this.lengths[this.runs];
+            this.runs++;
+            first = data.read();
+        }
+    }
+
+    /**
+     *
+     * @return the seed of the random values of the match
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     *
+     * @return how the Level of the match is made
+     */
+    public LevelKind getLevelKind() {
+        return this.kind;
+    }
+
+    /**
+     *
+     * @return the number of recorded ticks
+     */
+    public int getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     *
+     * @return the simulation of the last play, null if the match hasn't been
+     *         played yet
+     */
+    public Simulation getSimulation() {
+        return this.simulation;
+    }
+
+    /**
+     * Sets whether the next plays measure their ticks phase by phase, with the
+     * {@link TickProfiler} of their simulation.
+     *
+     * @param profiled true to measure the phases
+     */
+    public void setProfiled(final boolean profiled) {
+        this.profiled = profiled;
+    }
+
+    /**
+     * Plays the whole match again on a new simulation, built as the Controller
+     * builds the recorded one.
+     *
+     * @return how long every tick took, in nanoseconds
+     * @throws IOException               if the Level can't be loaded
+     * @throws InstanceNotFoundException if player spawn is not set in the Level
+     */
+    public long[] play() throws IOException, InstanceNotFoundException {
+        if (this.runs == 0) {
+            return new long[0];
+        }
+        final Simulation simulation = this.createSimulation();
+        this.simulation = simulation;
+        simulation.getProfiler().setEnabled(this.profiled);
+        final var level = simulation.getStage().getLevel();
+        final var player = simulation.getStage().getPlayer();
+        final long[] durations = new long[this.ticks];
+        int segment = level.getSegmentIndex(player.getPosition().getX());
+        int tick = 0;
+        for (int i = 0; i < this.runs; i++) {
+            if (this.leftBounds[i] != this.bounds.getX() || this.rightBounds[i] != this.bounds.getY()) {
+                this.bounds = new Pair<>(this.leftBounds[i], this.rightBounds[i]);
+            }
+            for (int j = 0; j < this.lengths[i]; j++) {
+                final long start = System.nanoTime();
+                simulation.tick(this.buttons[i]);
+                // the view does this after the tick, when the camera follows the player
+                final int currentSegment = level.getSegmentIndex(player.getPosition().getX());
+                if (currentSegment != segment) {
+                    segment = currentSegment;
+                    simulation.refreshEnemiesStatus();
+                }
+                durations[tick++] = System.nanoTime() - start;
+            }
+        }
+        return durations;
+    }
+
+    private Simulation createSimulation() throws IOException, InstanceNotFoundException {
+        final RandomSource random = new RandomSource(this.seed);
+        this.bounds = new Pair<>(this.leftBounds[0], this.rightBounds[0]);
+        if (this.kind == LevelKind.BUNDLED) {
+            final StageImpl stage = new StageImpl(new Level(StageImpl.SEGMENTS), random);
+            final SoundsController sounds = new SoundsController(new SilentSoundSink(), random.split());
+            return new Simulation(stage, sounds, () -> this.bounds);
+        }
+        final LevelStreamer streamer = new LevelStreamer(new Level(), this.kind == LevelKind.ENDLESS
+                ? new SegmentGenerator(this.levelSeed)
+                : new SegmentFiles(StageImpl.SEGMENTS));
+        final StageImpl stage = new StageImpl(streamer.getLevel(), random);
+        final SoundsController sounds = new SoundsController(new SilentSoundSink(), random.split());
+        return new Simulation(stage, sounds, () -> this.bounds, streamer);
+    }
+
+    private void grow() {
+        final int capacity = this.buttons.length * 2;
+        this.buttons = Arrays.copyOf(this.buttons, capacity);
+        this.leftBounds = Arrays.copyOf(this.leftBounds, capacity);
+        this.rightBounds = Arrays.copyOf(this.rightBounds, capacity);
+        this.lengths = Arrays.copyOf(this.lengths, capacity);
+    }
+
+    private static int readVarint(final DataInputStream data, final int first) throws IOException {
+        int value = first & SEVEN_BITS;
+        int current = first;
+        for (int shift = 7; (current & MORE) != 0; shift += 7) {
+            if (shift > Integer.SIZE) {
+                throw new IOException("Malformed recording");
+            }
+            current = data.readUnsignedByte();
+            value |= (current & SEVEN_BITS) << shift;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,192 @@
+package controller;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import model.map.Level;
+import model.map.Segment;
+import util.Pair;
+import util.Vector2D;
+import util.map.SegmentSource;
+
+/**
+ * Streams the Segments of a Level while it is played, so that only the
+ * player's Segment and its neighbours are resident. When the player approaches
+ * the right bound of their Segment, the one after the next is read and
+ * prepared on a background thread; it is appended as soon as the player enters
+ * the next Segment, when the Segment they left behind is evicted.
+ */
+public class LevelStreamer {
+
+    /**
+     * Distance from the right bound, in Tiles, at which the next Segment starts
+     * loading.
+     */
+    public static final double PREFETCH_DISTANCE = 16;
+
+    private static final long KEEP_ALIVE_SECONDS = 5;
+    /*
+     * A single thread shared by every streamer: Segments are loaded one at a
+     * time, and the thread stops when there is nothing to load.
+     */
+    private static final ThreadPoolExecutor LOADER = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                final Thread thread = new Thread(r, "segment-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    static {
+        LOADER.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Receives the changes to the resident Segments.
+     */
+    public interface Listener {
+
+        /**
+         * Called on the loading thread once a Segment has been read, before it
+         * is appended: the heavy preparation, like autotiling, goes here.
+         *
+         * @param window the Segments resident when the loading started, which
+         *               include the ones that will be resident along with
+         *               the new one, and the new one last
+         */
+        default void segmentLoaded(final List<Segment> window) {
+        }
+
+        /**
+         * Called on the game thread once a Segment has been appended to the
+         * Level.
+         *
+         * @param index   the index of the Segment
+         * @param segment the appended Segment
+         */
+        default void segmentAppended(final int index, final Segment segment) {
+        }
+
+        /**
+         * Called on the game thread once a Segment has been evicted from the
+         * Level.
+         *
+         * @param index   the index the Segment had
+         * @param segment the evicted Segment
+         */
+        default void segmentEvicted(final int index, final Segment segment) {
+        }
+    }
+
+    private final Level level;
+    private final SegmentSource source;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private Optional<Future<Segment>> pending = Optional.empty();
+
+    /**
+     * Creates a streamer that appends Segments to the given Level. The first
+     * two Segments are read right away, and the first one must contain the
+     * player's spawn.
+     *
+     * @param level  an empty Level
+     * @param source where the Segments are read from
+     * @throws IOException if the first Segment can't be read
+     */
+    public LevelStreamer(final Level level, final SegmentSource source) throws IOException {
+        this.level = level;
+        this.source = source;
+        for (int i = 0; i < 2 && this.source.hasNext(); i++) {
+            this.level.append(new Segment(this.source.next(), this.level.getWidth()));
+        }
+        this.finishIfOver();
+    }
+
+    /**
+     * Adds a listener of the changes to the resident Segments.
+     *
+     * @param listener the listener
+     */
+    public void addListener(final Listener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Gets the streamed Level.
+     *
+     * @return the Level
+     */
+    public Level getLevel() {
+        return this.level;
+    }
+
+    /**
+     * Evicts the Segments behind the player, appends the loaded Segment once
+     * the player has entered the last resident one, waiting for it if needed,
+     * and starts loading the next one when the player is close to the right
+     * bound. It's called on every tick, before anything moves.
+     *
+     * @param bounds         the left and right bounds of the area the player can
+     *                       traverse
+     * @param playerPosition the player's position
+     */
+    public void update(final Pair<Double, Double> bounds, final Vector2D playerPosition) {
+        final int current = this.level.getSegmentIndex(playerPosition.getX());
+        final int firstEvicted = this.level.getFirstSegmentIndex();
+        final List<Segment> evicted = this.level.evictBefore(current - 1);
+        for (int i = 0; i < evicted.size(); i++) {
+            final int index = firstEvicted + i;
+            final Segment segment = evicted.get(i);
+            this.listeners.forEach(l -> l.segmentEvicted(index, segment));
+        }
+
+        if (this.pending.isPresent() && current == this.level.getSegmentCount() - 1) {
+            this.append(this.pending.get());
+        }
+        if (this.pending.isEmpty() && !this.level.isFinished() && current >= this.level.getSegmentCount() - 2
+                && bounds.getY() - playerPosition.getX() < PREFETCH_DISTANCE) {
+            this.load();
+        }
+    }
+
+    private void load() {
+        final List<Segment> window = new ArrayList<>(this.level.getSegments());
+        final double offset = this.level.getWidth();
+        this.pending = Optional.of(LOADER.submit(() -> {
+            final Segment segment = new Segment(this.source.next(), offset);
+            window.add(segment);
+            final List<Segment> loaded = List.copyOf(window);
+            this.listeners.forEach(l -> l.segmentLoaded(loaded));
+            return segment;
+        }));
+    }
+
+    private void append(final Future<Segment> loading) {
+        final Segment segment;
+        try {
+            segment = loading.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Can't load the next Segment", e.getCause());
+        }
+        this.pending = Optional.empty();
+        final int index = this.level.getSegmentCount();
+        this.level.append(segment);
+        this.finishIfOver();
+        this.listeners.forEach(l -> l.segmentAppended(index, segment));
+    }
+
+    private void finishIfOver() {
+        if (!this.source.hasNext()) {
+            this.level.finish();
+        }
+    }
+}
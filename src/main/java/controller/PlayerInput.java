@@ -0,0 +1,83 @@
+package controller;
+
+/**
+ * The buttons held by the player, as a bitmask. The key events only change the
+ * mask, which is read once per tick and applied to the player by
+ * {@link Simulation#tick(int)}: this way the input only changes between two
+ * ticks, and a match can be played again from the masks of its ticks. The
+ * repeated events of a key held down change nothing: the mask already holds it.
+ */
+public class PlayerInput {
+
+    /**
+     * Moves left.
+     */
+    public static final int LEFT = 1;
+    /**
+     * Moves right.
+     */
+    public static final int RIGHT = 1 << 1;
+    /**
+     * Aims up.
+     */
+    public static final int UP = 1 << 2;
+    /**
+     * Jumps.
+     */
+    public static final int JUMP = 1 << 3;
+    /**
+     * Crouches and aims down.
+     */
+    public static final int CROUCH = 1 << 4;
+    /**
+     * Fires.
+     */
+    public static final int FIRE = 1 << 5;
+    /**
+     * Switches to the first weapon.
+     */
+    public static final int WEAPON_1 = 1 << 6;
+    /**
+     * Switches to the second weapon.
+     */
+    public static final int WEAPON_2 = 1 << 7;
+    /**
+     * Switches to the third weapon.
+     */
+    public static final int WEAPON_3 = 1 << 8;
+
+    private int held;
+    private int pressed;
+
+    /**
+     * Presses some buttons.
+     *
+     * @param buttons the mask of the pressed buttons
+     */
+    public void press(final int buttons) {
+        this.held |= buttons;
+        this.pressed |= buttons;
+    }
+
+    /**
+     * Releases some buttons.
+     *
+     * @param buttons the mask of the released buttons
+     */
+    public void release(final int buttons) {
+        this.held &= ~buttons;
+    }
+
+    /**
+     * Reads the input of the next tick: the buttons held now, plus the ones
+     * pressed and already released since the last tick, so that even the
+     * shortest press lasts a tick.
+     *
+     * @return the mask of the buttons
+     */
+    public int poll() {
+        final int buttons = this.held | this.pressed;
+        this.pressed = 0;
+        return buttons;
+    }
+}
@@ -0,0 +1,416 @@
+package controller;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+import controller.character.Blackboard;
+import controller.character.PlayerController;
+import controller.character.enemy.AiScheduler;
+import controller.character.enemy.EnemyController;
+import controller.character.enemy.FlowField;
+import controller.weapon.BulletsController;
+import controller.weapon.WeaponController;
+import model.StageImpl;
+import model.character.Enemy;
+import model.character.Player;
+import model.map.Level;
+import model.map.Segment;
+import model.weapons.Kraber;
+import model.weapons.PeaceKeeper;
+import model.weapons.R99;
+import util.Pair;
+import util.direction.DirectionHorizontal;
+import util.direction.DirectionVertical;
+import view.sounds.SoundManager.Sounds;
+
+/**
+ * The simulation of a match: it contains the stage and the controllers that
+ * move characters and bullets, and it steps all of them one tick at a time. It
+ * doesn't depend on the view, so it can be run without JavaFX.
+ * <p>
+ * The enemies are ticked in two phases. In the think phase every enemy decides
+ * how to move, aim and whether to fire, and moves: it only changes the enemy
+ * itself and reads the Level and the {@link Blackboard}, which don't change
+ * until the phase is over, so the enemies are split among the threads of the common
+ * ForkJoinPool. In the apply phase the shots and the deaths, which change the
+ * shared state, are committed one enemy at a time in the order of the list,
+ * so a tick has the same outcome however the enemies were split. The enemies
+ * far from the player or idle don't think every tick, see {@link AiScheduler}.
+ */
+public class Simulation {
+
+    /**
+     * The most enemies thought by a single task: below this the think phase
+     * runs on the calling thread.
+     */
+    static final int THINK_CHUNK = 32;
+
+    private final StageImpl stage;
+    private final PlayerController playerController;
+    private final List<EnemyController> enemiesController;
+    /**
+     * The enemies killed during the current tick, reused by every tick.
+     */
+    private final List<EnemyController> killed = new ArrayList<>();
+    private final BulletsController bulletsController;
+    private final WeaponController weaponController;
+    private final SoundsController soundsController;
+    private final Blackboard blackboard;
+    private final FlowField flowField;
+    private final AiScheduler scheduler;
+    private final Supplier<Pair<Double, Double>> cameraBounds;
+    private final Optional<LevelStreamer> streamer;
+    private final TickProfiler profiler = new TickProfiler();
+    /**
+     * The buttons held during the last tick, see {@link #tick(int)}.
+     */
+    private int buttons;
+
+    /**
+     * Creates the simulation of a match on the given stage.
+     *
+     * @param stage            the stage to simulate
+     * @param soundsController where the sounds of the match are played
+     * @param cameraBounds     provides the left and right bounds of the area
+     *                         the player can traverse, see
+     *                         {@link #segmentBounds(StageImpl)}
+     */
+    public Simulation(final StageImpl stage, final SoundsController soundsController,
+            final Supplier<Pair<Double, Double>> cameraBounds) {
+        this(stage, soundsController, cameraBounds, Optional.empty());
+    }
+
+    /**
+     * Creates the simulation of a match on a streamed Level: the enemies are
+     * spawned and removed along with the Segments they stand on.
+     *
+     * @param stage            the stage to simulate, on the streamer's Level
+     * @param soundsController where the sounds of the match are played
+     * @param cameraBounds     provides the left and right bounds of the area
+     *                         the player can traverse
+     * @param streamer         streams the Segments of the stage's Level
+     */
+    public Simulation(final StageImpl stage, final SoundsController soundsController,
+            final Supplier<Pair<Double, Double>> cameraBounds, final LevelStreamer streamer) {
+        this(stage, soundsController, cameraBounds, Optional.of(streamer));
+        streamer.addListener(new LevelStreamer.Listener() {
+            @Override
+            public void segmentAppended(final int index, final Segment segment) {
+                for (final Enemy enemy : stage.spawnEnemies(segment)) {
+                    final EnemyController enemyController = new EnemyController(stage.getLevel(), enemy,
+                            blackboard, stage.getRandom().split(), flowField);
+                    enemyController.setActive(false);
+                    enemiesController.add(enemyController);
+                }
+            }
+
+            @Override
+            public void segmentEvicted(final int index, final Segment segment) {
+                final List<Enemy> removed = List.copyOf(stage.despawnEnemies(segment));
+                enemiesController.removeIf(e -> removed.contains(e.getCharacter()));
+                removed.forEach(weaponController::forget);
+            }
+        });
+    }
+
+    private Simulation(final StageImpl stage, final SoundsController soundsController,
+            final Supplier<Pair<Double, Double>> cameraBounds, final Optional<LevelStreamer> streamer) {
+        this.stage = stage;
+        this.streamer = streamer;
+        this.soundsController = soundsController;
+        this.cameraBounds = cameraBounds;
+        this.enemiesController = new ArrayList<>();
+        this.blackboard = new Blackboard(this.stage.getLevel(), this.stage.getPlayer(), this.stage.getEnemies());
+        this.flowField = new FlowField(this.stage.getLevel(), this.stage.getPlayer());
+        this.scheduler = new AiScheduler(this.blackboard);
+        this.weaponController = new WeaponController();
+        this.playerController = new PlayerController(this.stage.getLevel(), this.stage.getPlayer());
+        this.bulletsController = new BulletsController(this.stage.getPlayer(), this.stage.getBulletPool(),
+                this.stage.getEnemies(), this.soundsController, this.stage.getLevel());
+        this.stage.getEnemies().forEach(e -> enemiesController.add(new EnemyController(this.stage.getLevel(), e,
+                this.blackboard, this.stage.getRandom().split(), this.flowField)));
+        this.blackboard.update();
+        refreshEnemiesStatus();
+    }
+
+    /**
+     * Returns camera bounds that span the whole segment where the player is,
+     * for a simulation without a camera. The bounds are created again only when
+     * the player changes segment.
+     *
+     * @param stage the simulated stage
+     * @return a provider of the bounds of the player's segment
+     */
+    public static Supplier<Pair<Double, Double>> segmentBounds(final StageImpl stage) {
+        return new Supplier<>() {
+            private Segment segment;
+            private Pair<Double, Double> bounds;
+
+            @Override
+            public Pair<Double, Double> get() {
+                final Level level = stage.getLevel();
+                final Segment current = level.getSegmentAtPosition(stage.getPlayer().getPosition());
+                if (current != this.segment) {
+                    this.segment = current;
+                    this.bounds = new Pair<>(current.getOffset(), level.getDistance(current));
+                }
+                return this.bounds;
+            }
+        };
+    }
+
+    /**
+     * A single step of the match, with the player moved by the given buttons
+     * instead of by someone else. The player is set from the buttons held on
+     * every tick, as a key held down would do: a button held since before the
+     * last tick keeps moving or aiming the player, whatever happened to it in
+     * between. The buttons pressed since the last tick only break the ties,
+     * when two opposite ones are held, and switch the weapon.
+     *
+     * @param input the mask of the buttons held, see {@link PlayerInput}
+     * @return the number of enemies killed during this tick
+     */
+    public int tick(final int input) {
+        final int pressed = input & ~this.buttons;
+        final int released = this.buttons & ~input;
+        this.buttons = input;
+        final Player player = stage.getPlayer();
+        final boolean left = (input & PlayerInput.LEFT) != 0;
+        final boolean right = (input & PlayerInput.RIGHT) != 0;
+        final boolean up = (input & PlayerInput.UP) != 0;
+        final boolean crouch = (input & PlayerInput.CROUCH) != 0;
+        player.setLeft(left);
+        player.setRight(right);
+        if ((pressed & PlayerInput.LEFT) != 0 || left && !right) {
+            player.getAim().setHorizontal(DirectionHorizontal.LEFT);
+        } else if ((pressed & PlayerInput.RIGHT) != 0 || right && !left) {
+            player.getAim().setHorizontal(DirectionHorizontal.RIGHT);
+        }
+        if ((pressed & PlayerInput.UP) != 0 || up && !crouch) {
+            player.getAim().setVertical(DirectionVertical.UP);
+        } else if ((pressed & PlayerInput.CROUCH) != 0 || crouch && !up) {
+            player.getAim().setVertical(DirectionVertical.DOWN);
+        } else if (!up && !crouch && (released & (PlayerInput.UP | PlayerInput.CROUCH)) != 0) {
+            player.getAim().returnToHorizontal();
+        }
+        player.setCrouchKey(crouch);
+        if ((pressed & PlayerInput.JUMP) != 0 && !player.isJumping() && !player.isFalling()) {
+            soundsController.playSound(Sounds.JUMP_1);
+        }
+        player.setJump((input & PlayerInput.JUMP) != 0);
+        player.setFire((input & PlayerInput.FIRE) != 0);
+        if ((pressed & PlayerInput.WEAPON_1) != 0) {
+            player.setWeapon(new R99());
+        }
+        if ((pressed & PlayerInput.WEAPON_2) != 0) {
+            player.setWeapon(new PeaceKeeper());
+        }
+        if ((pressed & PlayerInput.WEAPON_3) != 0) {
+            player.setWeapon(new Kraber());
+        }
+        return this.tick();
+    }
+
+    /**
+     * A single step of the match.
+     *
+     * @return the number of enemies killed during this tick
+     */
+    public int tick() {
+        profiler.start();
+        // nothing moves before the player, so the bounds hold for the whole tick
+        final Pair<Double, Double> bounds = cameraBounds.get();
+        final double leftBound = bounds.getX();
+        final double rightBound = bounds.getY();
+        if (this.streamer.isPresent()) {
+            this.streamer.get().update(bounds, stage.getPlayer().getPosition());
+        }
+        profiler.lap(TickProfiler.Phase.STREAMING);
+        killed.clear();
+
+        // the enemies only read the blackboard and the field while they think
+        blackboard.update();
+        flowField.update();
+        scheduler.schedule(enemiesController);
+        if (enemiesController.size() <= THINK_CHUNK) {
+            think(enemiesController, 0, enemiesController.size(), leftBound, rightBound);
+        } else {
+            ForkJoinPool.commonPool().invoke(new Think(enemiesController, 0, enemiesController.size(),
+                    leftBound, rightBound));
+        }
+        for (int i = 0; i < enemiesController.size(); i++) {
+            final EnemyController e = enemiesController.get(i);
+            if (e.isActive()) {
+                if (e.getCharacter().isShooting()) {
+                     e.fire(weaponController, bulletsController, soundsController);
+                }
+                if (e.isDead()) {
+                    killed.add(e);
+                }
+            }
+        }
+
+        for (int i = 0; i < killed.size(); i++) {
+            removeEnemy(killed.get(i));
+        }
+        profiler.lap(TickProfiler.Phase.ENEMIES);
+
+        weaponController.controllerTick();
+        profiler.lap(TickProfiler.Phase.WEAPONS);
+        bulletsController.controllerTick();
+        profiler.lap(TickProfiler.Phase.BULLETS);
+
+        playerController.controllerTick(leftBound, rightBound, blackboard);
+        if (playerController.getCharacter().isShooting()) {
+            playerController.fire(weaponController, bulletsController, soundsController);
+        }
+        profiler.lap(TickProfiler.Phase.PLAYER);
+
+        soundsController.controllerTick();
+        profiler.lap(TickProfiler.Phase.SOUNDS);
+        return killed.size();
+    }
+
+    /**
+     * Pause the enemies that are in a segment different from the Player segment.
+     */
+    public void refreshEnemiesStatus() {
+        enemiesController.forEach(e -> {
+            if (stage.getLevel().getSegmentAtPosition(e.getCharacter().getPosition()) != stage.getLevel()
+                    .getSegmentAtPosition(stage.getPlayer().getPosition())) {
+                e.setActive(false);
+            } else {
+                e.setActive(true);
+            }
+        });
+    }
+
+    /**
+     *
+     * @return true if the player is dead
+     */
+    public boolean isPlayerDead() {
+        return playerController.isDead();
+    }
+
+    /**
+     *
+     * @return true if the player reached the last segment of the level
+     */
+    public boolean isLevelCompleted() {
+        return stage.getLevel().isFinished() && stage.getLevel()
+                .getSegmentIndex(stage.getPlayer().getPosition().getX()) == stage.getLevel().getSegmentCount() - 1;
+    }
+
+    /**
+     * Gets the simulated stage.
+     *
+     * @return StageImpl
+     */
+    public StageImpl getStage() {
+        return this.stage;
+    }
+
+    /**
+     * Gets the class that handle the player control.
+     *
+     * @return PlayerController
+     */
+    public PlayerController getPlayerController() {
+        return this.playerController;
+    }
+
+    /**
+     * Gets what the bots know about the match, updated at the beginning of
+     * every tick.
+     *
+     * @return Blackboard
+     */
+    public Blackboard getBlackboard() {
+        return this.blackboard;
+    }
+
+    /**
+     * Gets the scheduler of the enemies' thoughts.
+     *
+     * @return AiScheduler
+     */
+    public AiScheduler getScheduler() {
+        return this.scheduler;
+    }
+
+    /**
+     * Gets the profiler of the ticks, disabled until someone enables it.
+     *
+     * @return TickProfiler
+     */
+    public TickProfiler getProfiler() {
+        return this.profiler;
+    }
+
+    /**
+     * Gets the controllers of the enemies still alive.
+     *
+     * @return the EnemyControllers
+     */
+    public Collection<EnemyController> getEnemiesController() {
+        return this.enemiesController;
+    }
+
+    private void removeEnemy(final EnemyController enemyController) {
+        enemiesController.remove(enemyController);
+        stage.getEnemies().remove(enemyController.getCharacter());
+        blackboard.enemyRemoved(enemyController.getEnemy());
+        weaponController.forget(enemyController.getCharacter());
+    }
+
+    private static void think(final List<EnemyController> enemies, final int from, final int to,
+            final double leftBound, final double rightBound) {
+        for (int i = from; i < to; i++) {
+            final EnemyController e = enemies.get(i);
+            if (e.isActive()) {
+                e.controllerTick(leftBound, rightBound, false);
+            }
+        }
+    }
+
+    /*
+     * The think phase of a range of enemies, split in halves until they are
+     * small enough.
+     */
+    private static final class Think extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<EnemyController> enemies;
+        private final int from;
+        private final int to;
+        private final double leftBound;
+        private final double rightBound;
+
+        Think(final List<EnemyController> enemies, final int from, final int to, final double leftBound,
+                final double rightBound) {
+            this.enemies = enemies;
+            this.from = from;
+            this.to = to;
+            this.leftBound = leftBound;
+            this.rightBound = rightBound;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= THINK_CHUNK) {
+                think(this.enemies, this.from, this.to, this.leftBound, this.rightBound);
+            } else {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(new Think(this.enemies, this.from, middle, this.leftBound, this.rightBound),
+                        new Think(this.enemies, middle, this.to, this.leftBound, this.rightBound));
+            }
+        }
+    }
+}
@@ -1,42 +1,80 @@
 package controller;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import controller.weapon.Cooldown;
 import view.sounds.SoundManager;
 import view.sounds.SoundManager.Sounds;
+import view.sounds.SoundSink;
 
 /**
- * Handles sounds putting a cooldown between two sounds of the same type.
+ * Handles sounds putting a cooldown between two sounds of the same type. The
+ * Cooldowns are indexed by the ordinal of their sound, and restarted every
+ * time it's played.
  *
  */
 public class SoundsController {
-    private final Map<Sounds, Cooldown> timers;
-    private final SoundManager soundManager;
-    private final Random rnd;
+    private static final List<Sounds> HURT = List.of(Sounds.HURT_1, Sounds.HURT_2, Sounds.HURT_3, Sounds.HURT_4);
+    private static final List<Sounds> JUMP = List.of(Sounds.JUMP_1, Sounds.JUMP_2, Sounds.JUMP_3, Sounds.JUMP_4);
+    private static final List<Sounds> DIE = List.of(Sounds.DIE_1, Sounds.DIE_2, Sounds.DIE_3, Sounds.DIE_4);
+    private static final int DEFAULTCOOLDOWNTICK = 10;
+    private final Cooldown[] timers;
+    private final SoundSink soundManager;
+    private final SplittableRandom rnd;
     private static final int HURTANDDIECOOLDOWNTICK = 50;
 
     /**
      * Instantiates SoundsController.
      */
     public SoundsController() {
-        this.timers = new HashMap<>();
-        this.soundManager = new SoundManager();
-        this.rnd = new Random();
+        this(new SoundManager());
+    }
+
+    /**
+     * Instantiates SoundsController playing the sounds on the given sink.
+     * 
+     * @param soundSink - where the sounds are played
+     */
+    public SoundsController(final SoundSink soundSink) {
+        this(soundSink, new SplittableRandom());
+    }
+
+    /**
+     * Instantiates SoundsController playing the sounds on the given sink.
+     * 
+     * @param soundSink - where the sounds are played
+     * @param random    - where the choice among similar sounds is drawn from
+     */
+    public SoundsController(final SoundSink soundSink, final SplittableRandom random) {
+        this.timers = new Cooldown[Sounds.values().length];
+        this.soundManager = soundSink;
+        this.rnd = random;
     }
 
     /**
      * This function is called by Controller every game tick.
      */
     public void controllerTick() {
-        this.timers.forEach((c, sc) -> {
-            sc.tick();
-        });
-        this.timers.entrySet().removeIf(e -> e.getValue().isCooldownOver());
+        for (final Cooldown timer : this.timers) {
+            if (timer != null) {
+                timer.tick();
+            }
+        }
+    }
+
+    private boolean isCoolingDown(final Sounds sound) {
+        final Cooldown timer = this.timers[sound.ordinal()];
+        return timer != null && !timer.isCooldownOver();
+    }
+
+    private void startCooldown(final Sounds sound, final int totalTicks) {
+        final Cooldown timer = this.timers[sound.ordinal()];
+        if (timer == null) {
+            this.timers[sound.ordinal()] = new Cooldown(totalTicks);
+        } else {
+            timer.restart(totalTicks);
+        }
     }
 
     /**
@@ -47,18 +85,17 @@ public class SoundsController {
      * @return true if the sound is actually played
      */
     private boolean playRandomSound(final List<Sounds> sounds, final boolean force) {
-        final List<Sounds> tmp = new ArrayList<>(sounds);
-        tmp.removeIf(s -> !this.timers.containsKey(s));
-
-        if (tmp.isEmpty()) {
-            final int n = this.rnd.nextInt(sounds.size());
-            if (!force) {
-                this.timers.put(sounds.get(n), new Cooldown(HURTANDDIECOOLDOWNTICK));
+        for (int i = 0; i < sounds.size(); i++) {
+            if (this.isCoolingDown(sounds.get(i))) {
+                return false;
             }
-            this.soundManager.playSound(sounds.get(n));
-            return true;
         }
-        return false;
+        final int n = this.rnd.nextInt(sounds.size());
+        if (!force) {
+            this.startCooldown(sounds.get(n), HURTANDDIECOOLDOWNTICK);
+        }
+        this.soundManager.playSound(sounds.get(n));
+        return true;
     }
 
     /**
@@ -74,21 +111,21 @@ public class SoundsController {
             this.forcePlaySound(soundType);
         } else if (soundType.equals(Sounds.HURT_1) || soundType.equals(Sounds.HURT_2) || soundType.equals(Sounds.HURT_3)
                 || soundType.equals(Sounds.HURT_4)) {
-            if (this.playRandomSound(List.of(Sounds.HURT_1, Sounds.HURT_2, Sounds.HURT_3, Sounds.HURT_4), false)) {
+            if (this.playRandomSound(HURT, false)) {
                 return true;
             }
         } else if (soundType.equals(Sounds.JUMP_1) || soundType.equals(Sounds.JUMP_2) || soundType.equals(Sounds.JUMP_3)
                 || soundType.equals(Sounds.JUMP_4)) {
-            if (this.playRandomSound(List.of(Sounds.JUMP_1, Sounds.JUMP_2, Sounds.JUMP_3, Sounds.JUMP_4), false)) {
+            if (this.playRandomSound(JUMP, false)) {
                 return true;
             }
         } else if (soundType.equals(Sounds.DIE_1) || soundType.equals(Sounds.DIE_2) || soundType.equals(Sounds.DIE_3)
                 || soundType.equals(Sounds.DIE_4)) {
-            if (this.playRandomSound(List.of(Sounds.DIE_1, Sounds.DIE_2, Sounds.DIE_3, Sounds.DIE_4), true)) {
+            if (this.playRandomSound(DIE, true)) {
                 return true;
             }
-        } else if (!this.timers.containsKey(soundType)) {
-            this.timers.put(soundType, new Cooldown(10));
+        } else if (!this.isCoolingDown(soundType)) {
+            this.startCooldown(soundType, DEFAULTCOOLDOWNTICK);
             this.soundManager.playSound(soundType);
             return true;
         }
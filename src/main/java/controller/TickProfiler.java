@@ -0,0 +1,211 @@
+package controller;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+
+import util.Histogram;
+
+/**
+ * Measures how long every phase of a tick takes and how many bytes it
+ * allocates, in a {@link Histogram} per phase. The tick is split by calling
+ * {@link #start()} at its beginning and {@link #lap(Phase)} at the end of every
+ * phase: each lap is charged the time since the previous one.
+ * <p>
+ * The profiler starts disabled, and then every call returns right away. The
+ * allocated bytes are the ones of the calling thread, so the enemies thought
+ * by the threads of the common ForkJoinPool are missing from them, and they
+ * are not measured at all if the JVM can't count them.
+ */
+public class TickProfiler {
+
+    /**
+     * The phases of a tick.
+     */
+    public enum Phase {
+        /**
+         * The streaming of the Segments of the Level.
+         */
+        STREAMING,
+        /**
+         * The enemies thinking, moving, firing and dying.
+         */
+        ENEMIES,
+        /**
+         * The cooldowns of the weapons.
+         */
+        WEAPONS,
+        /**
+         * The bullets moving and hitting.
+         */
+        BULLETS,
+        /**
+         * The player moving and firing.
+         */
+        PLAYER,
+        /**
+         * The sounds.
+         */
+        SOUNDS,
+        /**
+         * The rendering of a frame, measured once per frame rather than once
+         * per tick.
+         */
+        VIEW
+    }
+
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double P50 = 0.5;
+    private static final double P99 = 0.99;
+
+    private final Map<Phase, Histogram> durations = new EnumMap<>(Phase.class);
+    private final Map<Phase, Histogram> allocations = new EnumMap<>(Phase.class);
+    private final com.sun.management.ThreadMXBean threads;
+    private boolean enabled;
+    private long lastTime;
+    private long lastAllocated;
+
+    /**
+     * Creates a disabled profiler.
+     */
+    public TickProfiler() {
+        for (final Phase phase : Phase.values()) {
+            this.durations.put(phase, new Histogram());
+            this.allocations.put(phase, new Histogram());
+        }
+        final var bean = ManagementFactory.getThreadMXBean();
+        this.threads = bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+                        ? (com.sun.management.ThreadMXBean) bean
+                        : null;
+    }
+
+    /**
+     *
+     * @return true if the ticks are measured
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Starts or stops measuring the ticks. What's been measured so far is kept.
+     *
+     * @param enabled true to measure the ticks
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+        if (enabled && this.threads != null) {
+            this.threads.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    /**
+     * Marks the beginning of a tick, or of some phases measured apart from the
+     * ones before them.
+     */
+    public void start() {
+        if (!this.enabled) {
+            return;
+        }
+        this.lastTime = System.nanoTime();
+        this.lastAllocated = this.allocated();
+    }
+
+    /**
+     * Marks the end of a phase, which began at the previous lap or start.
+     *
+     * @param phase the phase that just ended
+     */
+    public void lap(final Phase phase) {
+        if (!this.enabled) {
+            return;
+        }
+        final long time = System.nanoTime();
+        final long allocated = this.allocated();
+        this.durations.get(phase).record(time - this.lastTime);
+        if (this.threads != null) {
+            this.allocations.get(phase).record(allocated - this.lastAllocated);
+        }
+        this.lastTime = time;
+        this.lastAllocated = allocated;
+    }
+
+    /**
+     *
+     * @param phase the phase
+     * @return the durations of the phase, in nanoseconds
+     */
+    public Histogram getDurations(final Phase phase) {
+        return this.durations.get(phase);
+    }
+
+    /**
+     *
+     * @param phase the phase
+     * @return the bytes allocated by the phase
+     */
+    public Histogram getAllocations(final Phase phase) {
+        return this.allocations.get(phase);
+    }
+
+    /**
+     * Forgets everything measured so far.
+     */
+    public void reset() {
+        this.durations.values().forEach(Histogram::reset);
+        this.allocations.values().forEach(Histogram::reset);
+    }
+
+    /**
+     * Describes the phases measured so far, one per line, with the p50, p99 and
+     * max of their durations and of their allocated bytes.
+     *
+     * @return the description
+     */
+    public String summary() {
+        final StringBuilder builder = new StringBuilder();
+        for (final Phase phase : Phase.values()) {
+            final Histogram time = this.durations.get(phase);
+            if (time.getCount() > 0) {
+                final Histogram bytes = this.allocations.get(phase);
+                builder.append(String.format("%-9s p50 %.3fms p99 %.3fms max %.3fms | %dB %dB %dB%n", phase,
+                        time.getValueAtPercentile(P50) / NANOS_PER_MILLI,
+                        time.getValueAtPercentile(P99) / NANOS_PER_MILLI, time.getMax() / NANOS_PER_MILLI,
+                        bytes.getValueAtPercentile(P50), bytes.getValueAtPercentile(P99), bytes.getMax()));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes the phases measured so far as CSV, one per line, with the number
+     * of ticks, the mean, p50, p99 and max of their durations in nanoseconds
+     * and the same of their allocated bytes.
+     *
+     * @param out where the phases are written
+     * @throws IOException if they can't be written
+     */
+    public void export(final Writer out) throws IOException {
+        final PrintWriter writer = new PrintWriter(out);
+        writer.println("phase,ticks,mean_ns,p50_ns,p99_ns,max_ns,mean_bytes,p50_bytes,p99_bytes,max_bytes");
+        for (final Phase phase : Phase.values()) {
+            final Histogram time = this.durations.get(phase);
+            final Histogram bytes = this.allocations.get(phase);
+            writer.println(String.format("%s,%d,%.0f,%d,%d,%d,%.0f,%d,%d,%d", phase, time.getCount(), time.getMean(),
+                    time.getValueAtPercentile(P50), time.getValueAtPercentile(P99), time.getMax(), bytes.getMean(),
+                    bytes.getValueAtPercentile(P50), bytes.getValueAtPercentile(P99), bytes.getMax()));
+        }
+        writer.flush();
+        if (writer.checkError()) {
+            throw new IOException("Can't export the tick metrics");
+        }
+    }
+
+    private long allocated() {
+        return this.threads == null ? 0 : this.threads.getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,194 @@
+package controller.character;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import model.character.Enemy;
+import model.character.Player;
+import model.map.Level;
+import model.map.Segment;
+
+/**
+ * What every bot wants to know about the match, gathered once at the
+ * beginning of a tick instead of by each bot on its own: where the player is,
+ * its Segment, the Segment of every enemy, the enemies on the player's one and
+ * how many enemies stand on every resident Segment. It's read by many threads
+ * at once while the enemies think, and it's written only by {@link #update()},
+ * before they do, and by {@link #enemyRemoved(Enemy)}, while their deaths are
+ * applied one at a time, so the reads need no locking.
+ */
+public class Blackboard {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Level level;
+    private final Player player;
+    private final Collection<Enemy> enemies;
+    private final List<Enemy> visible = new ArrayList<>();
+    private final List<Enemy> visibleView = Collections.unmodifiableList(this.visible);
+    /**
+     * The Segment of every enemy on a resident one. It's cleared and filled
+     * again by every update, which keeps its table.
+     */
+    private final Map<Enemy, Segment> segments = new IdentityHashMap<>();
+    /**
+     * The enemies on every resident Segment, from the first one.
+     */
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private int firstSegment;
+    private int playerSegment = -1;
+    private double playerX;
+    private double playerY;
+    private double centerX;
+    private double centerY;
+
+    /**
+     * Creates an empty blackboard, filled by the first update.
+     *
+     * @param level   the Level that is played
+     * @param player  the player
+     * @param enemies the enemies of the Level
+     */
+    public Blackboard(final Level level, final Player player, final Collection<Enemy> enemies) {
+        this.level = level;
+        this.player = player;
+        this.enemies = enemies;
+    }
+
+    /**
+     * Gathers everything again, at the beginning of a tick.
+     */
+    public void update() {
+        this.playerX = this.player.getPosition().getX();
+        this.playerY = this.player.getPosition().getY();
+        this.centerX = this.playerX + this.player.getHitbox().getX() / 2;
+        this.centerY = this.playerY + this.player.getHitbox().getY() / 2;
+        this.playerSegment = this.level.getSegmentIndex(this.playerX);
+        this.firstSegment = this.level.getFirstSegmentIndex();
+        final int resident = this.level.getSegmentCount() - this.firstSegment;
+        if (this.counts.length < resident) {
+            this.counts = new int[Math.max(resident, this.counts.length * 2)];
+        }
+        Arrays.fill(this.counts, 0);
+        this.visible.clear();
+        this.segments.clear();
+        for (final Enemy enemy : this.enemies) {
+            final int segment = this.level.getSegmentIndex(enemy.getPosition().getX());
+            if (segment >= 0) {
+                this.segments.put(enemy, this.level.getSegment(segment));
+                this.counts[segment - this.firstSegment]++;
+                if (segment == this.playerSegment) {
+                    this.visible.add(enemy);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets an enemy that died or was removed during the tick.
+     *
+     * @param enemy the enemy
+     */
+    public void enemyRemoved(final Enemy enemy) {
+        // it's counted on the Segment it stood on when the blackboard was updated, wherever it moved since
+        final Segment segment = this.segments.remove(enemy);
+        if (segment != null) {
+            this.counts[this.level.getSegmentIndex(segment) - this.firstSegment]--;
+            this.visible.remove(enemy);
+        }
+    }
+
+    /**
+     *
+     * @return the player's horizontal position
+     */
+    public double getPlayerX() {
+        return this.playerX;
+    }
+
+    /**
+     *
+     * @return the player's vertical position
+     */
+    public double getPlayerY() {
+        return this.playerY;
+    }
+
+    /**
+     *
+     * @return the horizontal position of the center of the player's hitbox
+     */
+    public double getPlayerCenterX() {
+        return this.centerX;
+    }
+
+    /**
+     *
+     * @return the vertical position of the center of the player's hitbox
+     */
+    public double getPlayerCenterY() {
+        return this.centerY;
+    }
+
+    /**
+     *
+     * @return the column of the cell of the center of the player's hitbox
+     */
+    public int getPlayerColumn() {
+        return (int) Math.floor(this.centerX);
+    }
+
+    /**
+     *
+     * @return the row of the cell of the center of the player's hitbox
+     */
+    public int getPlayerRow() {
+        return (int) Math.floor(this.centerY);
+    }
+
+    /**
+     *
+     * @return the index of the player's Segment, -1 if the player is outside
+     *         of the resident ones
+     */
+    public int getPlayerSegment() {
+        return this.playerSegment;
+    }
+
+    /**
+     * Returns the Segment an enemy stood on when the blackboard was updated.
+     * The enemies think before moving, so it's the one they stand on while
+     * they think.
+     *
+     * @param enemy the enemy
+     * @return the Segment, null if the enemy wasn't on a resident one or
+     *         isn't known to the blackboard
+     */
+    public Segment getSegmentOf(final Enemy enemy) {
+        return this.segments.get(enemy);
+    }
+
+    /**
+     * Returns how many enemies stand on a Segment.
+     *
+     * @param segment the index of the Segment
+     * @return the number of enemies, 0 if the Segment is not resident
+     */
+    public int getEnemiesIn(final int segment) {
+        final int index = segment - this.firstSegment;
+        return index < 0 || index >= this.counts.length ? 0 : this.counts[index];
+    }
+
+    /**
+     *
+     * @return the enemies on the player's Segment, the one the camera shows
+     */
+    public List<Enemy> getVisibleEnemies() {
+        return this.visibleView;
+    }
+}
@@ -1,11 +1,11 @@
 package controller.character;
 
 import util.Pair;
-import util.Vector2D;
 import util.direction.DirectionVertical;
 import view.sounds.SoundManager.Sounds;
 import model.character.Character.Crouch;
 import model.character.movableentity.EntityConstants;
+import model.Sweep;
 import model.map.Level;
 import controller.SoundsController;
 import controller.weapon.BulletsController;
@@ -29,6 +29,10 @@ public class CharacterController {
     private static final double DELTAX = 0.25;
     private static final double DELTAY = 0.075;
     private static final double CONDOFFSET = 0.1;
+    /**
+     * How far into the first Tile crossed the collision checks look.
+     */
+    private static final double NUDGE = 1e-9;
 
     /**
      * The character controller constructor.
@@ -47,7 +51,18 @@ public class CharacterController {
      * @param canAdvance
      */
     public void controllerTick(final Pair<Double, Double> bounds, final boolean canAdvance) {
-        this.movementChecks(bounds, canAdvance);
+        this.controllerTick(bounds.getX(), bounds.getY(), canAdvance);
+    }
+
+    /**
+     * The main method that checks everything about the player, with the bounds
+     * of the area the character can traverse as two doubles.
+     * @param leftBound
+     * @param rightBound
+     * @param canAdvance
+     */
+    public void controllerTick(final double leftBound, final double rightBound, final boolean canAdvance) {
+        this.movementChecks(leftBound, rightBound, canAdvance);
         this.character.moveEntity();
         this.aimChecks();
     }
@@ -96,23 +111,25 @@ public class CharacterController {
         }
     }
 
-    private void movementChecks(final Pair<Double, Double> bounds, final boolean canAdvance) {
+    private void movementChecks(final double leftBound, final double rightBound, final boolean canAdvance) {
         // Setting default values
         character.setCrouchCondition(Crouch.FREE);
-        final Vector2D nextPos = new Vector2D(character.getPosition());
+        final double width = this.character.getHitbox().getX();
+        final double height = this.character.getHitbox().getY();
         // The next frame the character will be in character.pos + character.speed
-        nextPos.add(character.getSpeed());
+        final double nextX = this.character.getPosition().getX() + this.character.getSpeed().getX();
+        final double nextY = this.character.getPosition().getY() + this.character.getSpeed().getY();
+        // Unless a Tile is crossed on the way there, where the checks stop
+        final double sweptX = this.sweepHorizontal(width, height);
+        final double sweptY = this.sweepVertical(width, height);
         // Roof collisions
-        if (this.isCollidingUp(nextPos) && this.character.getSpeed().getY() < 0) {
+        if (this.isCollidingUp(nextX, sweptY) && this.character.getSpeed().getY() < 0) {
             this.character.setSpeed(this.character.getSpeed().getX(), 0);
         }
         // Floor collisions
-        if (this.isCollidingDown(nextPos)) {
-            final var target = nextPos.sum(this.character.getHitbox());
+        if (this.isCollidingDown(nextX, sweptY)) {
             this.character.setFall(false);
-            this.character.setPosition(this.character.getPosition().getX(),
-                    this.level.getSegmentAtPosition(target).getTilePos(target).getY()
-                            - this.character.getHitbox().getY());
+            this.character.setPosition(this.character.getPosition().getX(), Math.floor(sweptY + height) - height);
             if (this.character.getSpeed().getY() > 0) {
                 this.character.setSpeed(this.character.getSpeed().getX(), 0);
             }
@@ -121,11 +138,10 @@ public class CharacterController {
         }
 
         // Left wall collisions
-        if (this.isCollidingLeft(nextPos) || nextPos.getX() < bounds.getX() + CharacterController.CONDOFFSET) {
+        if (this.isCollidingLeft(sweptX, nextY) || nextX < leftBound + CharacterController.CONDOFFSET) {
             this.character.setSpeed(EntityConstants.ACCELERATION, this.character.getSpeed().getY());
             // Right wall collisions
-        } else if (this.isCollidingRight(nextPos)
-                || nextPos.getX() + this.character.getHitbox().getX() > bounds.getY() && !canAdvance) {
+        } else if (this.isCollidingRight(sweptX, nextY) || nextX + width > rightBound && !canAdvance) {
             this.character.setSpeed(-EntityConstants.ACCELERATION, this.character.getSpeed().getY());
         }
         // Special case: while flying he can not crouch
@@ -133,49 +149,71 @@ public class CharacterController {
             this.character.setCrouchCondition(Crouch.UP);
         }
         // Special case: stuck crouching
-        if (this.isCollidingUp(new Vector2D(this.character.getPosition().getX(),
-                this.character.getPosition().getY() - this.character.getHitbox().getY()))
+        if (this.isCollidingUp(this.character.getPosition().getX(),
+                this.character.getPosition().getY() - this.character.getHitbox().getY())
                 && this.character.isCrouching()) {
             this.character.setCrouchCondition(Crouch.DOWN);
             this.character.setJump(false);
         }
     }
 
-    private boolean isCollidingLeft(final Vector2D nextPos) {
-        final Vector2D botLeft = new Vector2D(0, this.character.getHitbox().getY() - DELTAX);
-        final Vector2D topLeft = new Vector2D(0, DELTAX);
-        botLeft.add(nextPos);
-        topLeft.add(nextPos);
-        return level.getSegmentAtPosition(topLeft).isCollidableAtPosition(topLeft)
-                || level.getSegmentAtPosition(botLeft).isCollidableAtPosition(botLeft);
+    /*
+     * The horizontal position where the side of the hitbox the character moves
+     * to enters the first collidable Tile, or the next position if it doesn't.
+     */
+    private double sweepHorizontal(final double width, final double height) {
+        final double x = this.character.getPosition().getX();
+        final double y = this.character.getPosition().getY();
+        final double dx = this.character.getSpeed().getX();
+        if (dx == 0) {
+            return x;
+        }
+        final double side = dx > 0 ? x + width : x;
+        final double t = Math.min(Sweep.castTiles(this.level, side, y + DELTAX, dx, 0),
+                Sweep.castTiles(this.level, side, y + height - DELTAX, dx, 0));
+        return t == Sweep.MISS ? x + dx : x + dx * t + Math.signum(dx) * NUDGE;
+    }
+
+    /*
+     * The vertical position where the side of the hitbox the character moves to
+     * enters the first collidable Tile, or the next position if it doesn't.
+     */
+    private double sweepVertical(final double width, final double height) {
+        final double x = this.character.getPosition().getX();
+        final double y = this.character.getPosition().getY();
+        final double dy = this.character.getSpeed().getY();
+        if (dy == 0) {
+            return y;
+        }
+        final double side = dy > 0 ? y + height : y;
+        final double t = Math.min(Sweep.castTiles(this.level, x + DELTAY, side, 0, dy),
+                Sweep.castTiles(this.level, x + width - DELTAY, side, 0, dy));
+        return t == Sweep.MISS ? y + dy : y + dy * t + Math.signum(dy) * NUDGE;
+    }
+
+    /*
+     * The collision checks take the position as two doubles, so that they don't
+     * create a vector for every corner of the hitbox.
+     */
+    private boolean isCollidingLeft(final double x, final double y) {
+        return this.level.isCollidableAt(x, y + DELTAX)
+                || this.level.isCollidableAt(x, y + this.character.getHitbox().getY() - DELTAX);
     }
 
-    private boolean isCollidingRight(final Vector2D nextPos) {
-        final Vector2D botRight = new Vector2D(this.character.getHitbox().getX(),
-                this.character.getHitbox().getY() - DELTAX);
-        final Vector2D topRight = new Vector2D(this.character.getHitbox().getX(), DELTAX);
-        botRight.add(nextPos);
-        topRight.add(nextPos);
-        return level.getSegmentAtPosition(topRight).isCollidableAtPosition(topRight)
-                || level.getSegmentAtPosition(botRight).isCollidableAtPosition(botRight);
+    private boolean isCollidingRight(final double x, final double y) {
+        final double right = x + this.character.getHitbox().getX();
+        return this.level.isCollidableAt(right, y + DELTAX)
+                || this.level.isCollidableAt(right, y + this.character.getHitbox().getY() - DELTAX);
     }
 
-    private boolean isCollidingUp(final Vector2D nextPos) {
-        final Vector2D topRight = new Vector2D(this.character.getHitbox().getX() - DELTAY, 0);
-        final Vector2D topLeft = new Vector2D(DELTAY, 0);
-        topLeft.add(nextPos);
-        topRight.add(nextPos);
-        return level.getSegmentAtPosition(topLeft).isCollidableAtPosition(topLeft)
-                || level.getSegmentAtPosition(topRight).isCollidableAtPosition(topRight);
+    private boolean isCollidingUp(final double x, final double y) {
+        return this.level.isCollidableAt(x + DELTAY, y)
+                || this.level.isCollidableAt(x + this.character.getHitbox().getX() - DELTAY, y);
     }
 
-    private boolean isCollidingDown(final Vector2D nextPos) {
-        final Vector2D botRight = new Vector2D(this.character.getHitbox().getX() - DELTAY,
-                this.character.getHitbox().getY());
-        final Vector2D botLeft = new Vector2D(DELTAY, this.character.getHitbox().getY());
-        botRight.add(nextPos);
-        botLeft.add(nextPos);
-        return level.getSegmentAtPosition(botLeft).isCollidableAtPosition(botLeft)
-                || level.getSegmentAtPosition(botRight).isCollidableAtPosition(botRight);
+    private boolean isCollidingDown(final double x, final double y) {
+        final double bottom = y + this.character.getHitbox().getY();
+        return this.level.isCollidableAt(x + DELTAY, bottom)
+                || this.level.isCollidableAt(x + this.character.getHitbox().getX() - DELTAY, bottom);
     }
 }
@@ -0,0 +1,87 @@
+package controller.character;
+
+import java.util.List;
+import java.util.Optional;
+
+import controller.character.enemy.SimpleBot;
+import model.character.Enemy;
+import model.character.Player;
+import model.character.movableentity.EntityConstants;
+import model.map.Level;
+import model.map.Segment;
+import util.direction.DirectionHorizontal;
+
+/**
+ * A Bot that plays in place of the player: it walks to the end of the level,
+ * stopping to shoot the enemies of the segment it is in and jumping over the
+ * obstacles. It is used to run matches without anyone playing.
+ */
+public class PlayerBot implements SimpleBot {
+
+    private final Player player;
+    private final Level level;
+    private final Blackboard blackboard;
+
+    /**
+     * The PlayerBot constructor.
+     *
+     * @param player     the player to move
+     * @param level      the level where the player is
+     * @param blackboard where the enemies of the player's segment are listed
+     */
+    public PlayerBot(final Player player, final Level level, final Blackboard blackboard) {
+        this.player = player;
+        this.level = level;
+        this.blackboard = blackboard;
+    }
+
+    @Override
+    public void controllerTick() {
+        this.move();
+        this.fire();
+    }
+
+    @Override
+    public void move() {
+        final Optional<Enemy> target = this.getTarget();
+        final boolean left = target.isPresent()
+                && target.get().getPosition().getX() < this.player.getPosition().getX();
+        this.player.getAim().setHorizontal(left ? DirectionHorizontal.LEFT : DirectionHorizontal.RIGHT);
+        final boolean hold = target.isPresent() && Math
+                .abs(target.get().getPosition().getX() - this.player.getPosition().getX()) < EntityConstants.ENEMY_DISTANCE;
+        this.player.setLeft(!hold && left);
+        this.player.setRight(!hold && !left);
+
+        final Segment segment = this.level.getSegmentAtPosition(this.player.getPosition());
+        final double nearTileX = left ? -EntityConstants.ENEMY_DELTA
+                : EntityConstants.ENEMY_DELTA + this.player.getHitbox().getX();
+        final double x = this.player.getPosition().getX() + nearTileX;
+        final double y = this.player.getPosition().getY();
+        this.player.setJump(!hold && (segment.isCollidableAt(x, y + this.player.getHitbox().getY() - 1)
+                || segment.isCollidableAt(x, y)));
+    }
+
+    @Override
+    public void fire() {
+        this.player.setFire(this.getTarget().isPresent());
+    }
+
+    /**
+     * Returns the nearest enemy in the segment where the player is, as listed
+     * by the blackboard at the beginning of the last tick.
+     */
+    private Optional<Enemy> getTarget() {
+        final List<Enemy> enemies = this.blackboard.getVisibleEnemies();
+        Optional<Enemy> nearest = Optional.empty();
+        double nearestDistance = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < enemies.size(); i++) {
+            final Enemy enemy = enemies.get(i);
+            final double distance = Math.abs(enemy.getPosition().getX() - this.player.getPosition().getX());
+            if (distance < nearestDistance) {
+                nearest = Optional.of(enemy);
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+}
@@ -19,4 +19,16 @@ public class PlayerController extends CharacterController {
     public PlayerController(final Level level, final Player player) {
         super(level, player);
     }
+
+    /**
+     * Moves the player, which can go past the right bound only when no enemy
+     * is left on its Segment.
+     *
+     * @param leftBound  the left bound of the area the player can traverse
+     * @param rightBound the right bound of the area the player can traverse
+     * @param blackboard where the enemies of the player's Segment are counted
+     */
+    public void controllerTick(final double leftBound, final double rightBound, final Blackboard blackboard) {
+        this.controllerTick(leftBound, rightBound, blackboard.getEnemiesIn(blackboard.getPlayerSegment()) == 0);
+    }
 }
@@ -0,0 +1,161 @@
+package controller.character.enemy;
+
+import java.util.List;
+
+import controller.character.Blackboard;
+import model.character.Enemy;
+import model.character.movableentity.EntityConstants;
+import util.Status;
+
+/**
+ * Decides which enemies think during a tick. The enemies close to the player
+ * think every tick, the far ones every {@link #FAR_PERIOD} ticks and the idle
+ * ones every {@link #IDLE_PERIOD} ticks, each one on its own slot so that they
+ * don't all think on the same tick. Between two thoughts an enemy keeps doing
+ * what it decided, and it moves every tick anyway.
+ * <p>
+ * The thoughts of a tick can also be given a time budget: the enemies whose
+ * turn comes when the budget is spent wait for the next tick, where they think
+ * before the others. The budget is spent by the estimated cost of a thought,
+ * measured on the previous ticks, so the enemies that think depend on how fast
+ * the machine is: without a budget the same match is always played the same
+ * way.
+ */
+public class AiScheduler {
+
+    /**
+     * How often the enemies far from the player think, in ticks.
+     */
+    public static final int FAR_PERIOD = 4;
+    /**
+     * How often the idle enemies think, in ticks.
+     */
+    public static final int IDLE_PERIOD = 8;
+    /**
+     * The horizontal distance from the player beyond which an enemy is far: no
+     * enemy wants to stay that far, see {@link EntityConstants#ENEMY_DISTANCE}.
+     */
+    public static final double FAR_DISTANCE = EntityConstants.ENEMY_DISTANCE + EntityConstants.ENEMY_VARIATON;
+
+    /**
+     * How much the last tick weighs on the estimated cost of a thought.
+     */
+    private static final double SMOOTHING = 0.1;
+
+    private final Blackboard blackboard;
+    private long tick;
+    private int slots;
+    private long budget;
+    private double cost;
+    private int deferred;
+
+    /**
+     * Creates a scheduler without a time budget.
+     *
+     * @param blackboard where the player is, whose distance sets how often the
+     *                   enemies think
+     */
+    public AiScheduler(final Blackboard blackboard) {
+        this.blackboard = blackboard;
+    }
+
+    /**
+     * Sets the time the thoughts of a tick may take.
+     *
+     * @param nanos the budget in nanoseconds, 0 for no budget
+     */
+    public void setBudget(final long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Negative budget: " + nanos);
+        }
+        this.budget = nanos;
+    }
+
+    /**
+     *
+     * @return the number of thoughts put off to the next tick by the last
+     *         schedule, because of the budget
+     */
+    public int getDeferred() {
+        return this.deferred;
+    }
+
+    /**
+     * Chooses the enemies that think during the next tick. It's called before
+     * the enemies are ticked, on a single thread, after the blackboard is
+     * updated.
+     *
+     * @param enemies the controllers of the enemies
+     */
+    public void schedule(final List<EnemyController> enemies) {
+        this.measure(enemies);
+        this.tick++;
+        final long admissible = this.budget == 0 || this.cost == 0 ? Long.MAX_VALUE
+                : Math.max(1, (long) (this.budget / this.cost));
+        long admitted = 0;
+        this.deferred = 0;
+        // the ones put off by the budget come first, then the ones whose turn it is
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < enemies.size(); i++) {
+                final EnemyController e = enemies.get(i);
+                if (e.getSlot() < 0) {
+                    e.setSlot(this.slots++);
+                    e.setNextThink(this.tick);
+                }
+                if (!e.isActive()) {
+                    continue;
+                }
+                final boolean due = pass == 0 ? e.getNextThink() < this.tick : e.getNextThink() == this.tick;
+                if (due && admitted < admissible) {
+                    admitted++;
+                    e.setThinking(true);
+                    e.setNextThink(this.next(e));
+                } else if (due) {
+                    this.deferred++;
+                    e.setThinking(false);
+                } else if (pass == 0 && e.getNextThink() > this.tick) {
+                    e.setThinking(false);
+                }
+                e.setMeasured(this.budget != 0);
+            }
+        }
+    }
+
+    /*
+     * The first tick after this one on the enemy's slot of its period.
+     */
+    private long next(final EnemyController e) {
+        final int period = this.periodOf(e);
+        return this.tick + period - (this.tick + e.getSlot()) % period;
+    }
+
+    private int periodOf(final EnemyController e) {
+        final Enemy enemy = e.getEnemy();
+        if (enemy.getStatus() == Status.IDLE) {
+            return IDLE_PERIOD;
+        }
+        return Math.abs(enemy.getPosition().getX() - this.blackboard.getPlayerX()) > FAR_DISTANCE ? FAR_PERIOD : 1;
+    }
+
+    /*
+     * Updates the estimated cost of a thought with the ones of the last tick.
+     */
+    private void measure(final List<EnemyController> enemies) {
+        if (this.budget == 0) {
+            return;
+        }
+        long spent = 0;
+        int thoughts = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            final long nanos = enemies.get(i).takeThinkNanos();
+            if (nanos >= 0) {
+                spent += nanos;
+                thoughts++;
+            }
+        }
+        if (thoughts > 0) {
+            final double last = (double) spent / thoughts;
+            this.cost = this.cost == 0 ? last : this.cost + SMOOTHING * (last - this.cost);
+        }
+    }
+}
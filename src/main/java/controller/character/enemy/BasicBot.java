@@ -1,9 +1,10 @@
 package controller.character.enemy;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
+import controller.character.Blackboard;
+import model.Sweep;
 import model.character.Enemy;
-import model.character.Player;
 import model.character.movableentity.EntityConstants;
 import model.map.Level;
 import model.map.Segment;
@@ -11,17 +12,20 @@ import util.Status;
 import util.direction.DirectionHorizontal;
 
 /**
- * A Basic Bot that shoots when near the player, jumps obstacles and mantains
- * the distances with the player.
+ * A Basic Bot that shoots when near the player and able to see it, jumps
+ * obstacles and mantains the distances with the player. When it's too far
+ * from the player, it follows the shared {@link FlowField} around the
+ * obstacles, if there is a way.
  *
  */
 public class BasicBot implements SimpleBot {
 
     private final Enemy enemy;
-    private final Player player;
+    private final Blackboard blackboard;
     private final Level level;
-    private final double maxDistance = EntityConstants.ENEMY_DISTANCE
-            + (new Random().nextDouble() * EntityConstants.ENEMY_VARIATON - EntityConstants.ENEMY_VARIATON / 2);
+    private final SplittableRandom random;
+    private final FlowField field;
+    private final double maxDistance;
     private boolean lastDir = true;
 
     /**
@@ -29,12 +33,19 @@ public class BasicBot implements SimpleBot {
      * 
      * @param enemy
      * @param level
-     * @param player
+     * @param blackboard where the bot reads about the player, shared by the bots
+     * @param random     the bot's own stream of random values
+     * @param field      the way towards the player, shared by the bots
      */
-    public BasicBot(final Enemy enemy, final Level level, final Player player) {
+    public BasicBot(final Enemy enemy, final Level level, final Blackboard blackboard,
+            final SplittableRandom random, final FlowField field) {
         this.enemy = enemy;
         this.level = level;
-        this.player = player;
+        this.blackboard = blackboard;
+        this.random = random;
+        this.field = field;
+        this.maxDistance = EntityConstants.ENEMY_DISTANCE
+                + (random.nextDouble() * EntityConstants.ENEMY_VARIATON - EntityConstants.ENEMY_VARIATON / 2);
     }
 
     @Override
@@ -52,10 +63,10 @@ public class BasicBot implements SimpleBot {
     }
 
     private void randomMove() {
-        this.lastDir = (new Random().nextInt(EntityConstants.CHANGE_DIR_PROBABILITY) == 0) ? !lastDir : lastDir;
+        this.lastDir = (this.random.nextInt(EntityConstants.CHANGE_DIR_PROBABILITY) == 0) ? !lastDir : lastDir;
         enemy.getAim().setHorizontal(lastDir ? DirectionHorizontal.LEFT : DirectionHorizontal.RIGHT);
         movementLogic(lastDir);
-        final double distance = enemy.getPosition().getX() - player.getPosition().getX();
+        final double distance = enemy.getPosition().getX() - blackboard.getPlayerX();
         if (Math.abs(distance) < this.maxDistance) {
             enemy.setStatus(Status.ACTIVE);
         }
@@ -63,17 +74,25 @@ public class BasicBot implements SimpleBot {
 
     @Override
     public void move() {
-        if (this.player != null) {
-            final double distance = enemy.getPosition().getX() - player.getPosition().getX();
-            if (Math.abs(distance) < maxDistance + EntityConstants.ENEMY_TOLERANCE
-                    && Math.abs(distance) > maxDistance - EntityConstants.ENEMY_TOLERANCE) {
-                enemy.setLeft(false);
-                enemy.setRight(false);
+        final double distance = enemy.getPosition().getX() - blackboard.getPlayerX();
+        if (Math.abs(distance) < maxDistance + EntityConstants.ENEMY_TOLERANCE
+                && Math.abs(distance) > maxDistance - EntityConstants.ENEMY_TOLERANCE) {
+            enemy.setLeft(false);
+            enemy.setRight(false);
+        } else if (Math.abs(distance) < maxDistance) {
+            enemy.getAim().setHorizontal(distance > 0 ? DirectionHorizontal.LEFT : DirectionHorizontal.RIGHT);
+            movementLogic(distance <= 0);
+        } else {
+            enemy.getAim().setHorizontal(distance > 0 ? DirectionHorizontal.LEFT : DirectionHorizontal.RIGHT);
+            final int node = this.field.getNode(this.enemy);
+            final int direction = this.field.getDirection(node);
+            if (direction == 0) {
+                movementLogic(distance > 0);
             } else {
-                boolean dir = distance > 0;
-                enemy.getAim().setHorizontal(dir ? DirectionHorizontal.LEFT : DirectionHorizontal.RIGHT);
-                dir = Math.abs(distance) < maxDistance ? !dir : dir;
-                movementLogic(dir);
+                movementLogic(direction < 0);
+                if (this.field.isJump(node)) {
+                    enemy.setJump(true);
+                }
             }
         }
     }
@@ -83,23 +102,31 @@ public class BasicBot implements SimpleBot {
         enemy.setRight(!dir);
         final double nearTileX = dir ? -(EntityConstants.ENEMY_DELTA)
                 : EntityConstants.ENEMY_DELTA + enemy.getHitbox().getX();
-        enemy.setJump(getCurrentCharacterSegment()
-                .isCollidableAtPosition(this.enemy.getPosition().sum(nearTileX, enemy.getHitbox().getY() - 1))
-                || getCurrentCharacterSegment().isCollidableAtPosition(this.enemy.getPosition().sum(nearTileX, 0)));
+        final double x = this.enemy.getPosition().getX() + nearTileX;
+        final double y = this.enemy.getPosition().getY();
+        final Segment segment = getCurrentCharacterSegment();
+        enemy.setJump(segment.isCollidableAt(x, y + enemy.getHitbox().getY() - 1) || segment.isCollidableAt(x, y));
     }
 
     /**
-     * Gets the Segment where the enemy is at that moment.
+     * Gets the Segment where the enemy is at that moment, as noted on the
+     * blackboard at the beginning of the tick.
      * 
      * @return the Segment where the enemy is at that moment
      */
     public Segment getCurrentCharacterSegment() {
-        return level.getSegmentAtPosition(this.enemy.getPosition());
+        final Segment segment = this.blackboard.getSegmentOf(this.enemy);
+        // an enemy the blackboard doesn't know yet is looked up on its own
+        return segment != null ? segment : level.getSegmentAtPosition(this.enemy.getPosition());
     }
 
     @Override
     public void fire() {
-        enemy.setFire(Math.abs(enemy.getPosition().getX() - player.getPosition().getX()) < maxDistance);
+        // the line of sight joins the centers of the hitboxes, where the bullets start
+        enemy.setFire(Math.abs(enemy.getPosition().getX() - blackboard.getPlayerX()) < maxDistance
+                && Sweep.hasLineOfSight(this.level, enemy.getPosition().getX() + enemy.getHitbox().getX() / 2,
+                        enemy.getPosition().getY() + enemy.getHitbox().getY() / 2,
+                        blackboard.getPlayerCenterX(), blackboard.getPlayerCenterY()));
     }
 
 }
@@ -1,36 +1,111 @@
 package controller.character.enemy;
 
+import java.util.SplittableRandom;
+
+import controller.character.Blackboard;
 import controller.character.CharacterController;
 import model.character.Enemy;
-import model.character.Player;
 import model.map.Level;
-import util.Pair;
 
 /**
- * The controller of the Enemy.
+ * The controller of the Enemy. Its brain thinks only on the ticks chosen by
+ * the {@link AiScheduler}, if there is one, while the enemy moves every tick.
  *
  */
 public class EnemyController extends CharacterController {
 
+    private final Enemy enemy;
     private final SimpleBot brain;
     private boolean isActive = true;
+    /*
+     * The state kept by the AiScheduler.
+     */
+    private int slot = -1;
+    private long nextThink;
+    private boolean thinking = true;
+    private boolean measured;
+    private long thinkNanos = -1;
 
     /**
      * Constructor for the controller of the enemy.
      * 
      * @param level
      * @param enemy
-     * @param player
+     * @param blackboard where the enemy reads about the player, shared by the
+     *                   enemies
+     * @param random     the enemy's own stream of random values
+     * @param field      the way towards the player, shared by the enemies
      */
-    public EnemyController(final Level level, final Enemy enemy, final Player player) {
+    public EnemyController(final Level level, final Enemy enemy, final Blackboard blackboard,
+            final SplittableRandom random, final FlowField field) {
         super(level, enemy);
-        this.brain = new BasicBot(enemy, level, player);
+        this.enemy = enemy;
+        this.brain = new BasicBot(enemy, level, blackboard, random, field);
     }
 
     @Override
-    public void controllerTick(final Pair<Double, Double> bounds, final boolean canAdvance) {
-        brain.controllerTick();
-        super.controllerTick(bounds, canAdvance);
+    public void controllerTick(final double leftBound, final double rightBound, final boolean canAdvance) {
+        if (thinking) {
+            if (measured) {
+                final long start = System.nanoTime();
+                brain.controllerTick();
+                thinkNanos = System.nanoTime() - start;
+            } else {
+                brain.controllerTick();
+            }
+        }
+        super.controllerTick(leftBound, rightBound, canAdvance);
+    }
+
+    /**
+     * Returns the controlled Enemy.
+     * 
+     * @return the Enemy
+     */
+    public Enemy getEnemy() {
+        return this.enemy;
+    }
+
+    /**
+     * 
+     * @return true if the brain thinks during the next tick
+     */
+    public boolean isThinking() {
+        return this.thinking;
+    }
+
+    int getSlot() {
+        return this.slot;
+    }
+
+    void setSlot(final int slot) {
+        this.slot = slot;
+    }
+
+    long getNextThink() {
+        return this.nextThink;
+    }
+
+    void setNextThink(final long tick) {
+        this.nextThink = tick;
+    }
+
+    void setThinking(final boolean thinking) {
+        this.thinking = thinking;
+    }
+
+    void setMeasured(final boolean measured) {
+        this.measured = measured;
+    }
+
+    /*
+     * How long the last thought took, -1 if the enemy hasn't thought since the
+     * last call.
+     */
+    long takeThinkNanos() {
+        final long nanos = this.thinkNanos;
+        this.thinkNanos = -1;
+        return nanos;
     }
 
     /**
@@ -0,0 +1,173 @@
+package controller.character.enemy;
+
+import java.util.Arrays;
+
+import model.character.Character;
+import model.map.Level;
+import model.map.NavGraph;
+import model.map.Segment;
+
+/**
+ * The way towards the player from every place of its Segment where an enemy can
+ * stand, shared by all the enemies. It's a breadth-first search from the
+ * player's node over the incoming edges of the Segment's {@link NavGraph}, run
+ * again only when the player lands on a different node, and at most once
+ * every {@link #REBUILD_TICKS} updates while the player stays on the same
+ * Segment: in between, every enemy reads its next move with a couple of array
+ * reads, following the way towards where the player was a few ticks before.
+ * <p>
+ * The field is updated before the enemies think and only read while they do,
+ * so it can be read by many threads at once.
+ */
+public class FlowField {
+
+    /**
+     * Returned when there is no known way towards the player.
+     */
+    public static final int NONE = NavGraph.NONE;
+    /**
+     * The fewest updates between two searches on the same Segment. A search
+     * costs a visit of every node and edge of the Segment's graph.
+     */
+    public static final int REBUILD_TICKS = 6;
+
+    private static final double FEET = 1e-9;
+
+    private final Level level;
+    private final Character player;
+    private Segment segment;
+    private int segmentIndex = -1;
+    private int target = NONE;
+    private int sinceSearch = REBUILD_TICKS;
+    private int[] distances = new int[0];
+    /**
+     * The next node of the way from every node, NONE if there isn't one.
+     */
+    private int[] next = new int[0];
+    private int[] queue = new int[0];
+
+    /**
+     * Creates the field towards the player, empty until the first update.
+     *
+     * @param level  the Level that is played
+     * @param player the Character to reach
+     */
+    public FlowField(final Level level, final Character player) {
+        this.level = level;
+        this.player = player;
+    }
+
+    /**
+     * Follows the player: the field is computed again if the player stands on
+     * a different node since the last search, right away on a new Segment and
+     * otherwise once {@link #REBUILD_TICKS} updates went by since the last
+     * search. While the player is in the air it's the node it will land on.
+     */
+    public void update() {
+        if (this.sinceSearch < REBUILD_TICKS) {
+            this.sinceSearch++;
+        }
+        final int index = this.level.getSegmentIndex(this.player.getPosition().getX()
+                + this.player.getHitbox().getX() / 2);
+        if (index < 0) {
+            return;
+        }
+        final Segment current = this.level.getSegment(index);
+        final int node = nodeOf(current, this.player);
+        if (node == NONE || current == this.segment && (node == this.target || this.sinceSearch < REBUILD_TICKS)) {
+            return;
+        }
+        this.sinceSearch = 0;
+        this.segment = current;
+        this.segmentIndex = index;
+        this.target = node;
+        this.search(current.getNavigation());
+    }
+
+    /**
+     * Returns the node of the field a Character stands on, or will land on.
+     *
+     * @param character the Character
+     * @return the node, NONE if the Character is not in the player's Segment
+     *         or there is nothing to land on
+     */
+    public int getNode(final Character character) {
+        if (this.segment == null || this.level.getSegmentIndex(character.getPosition().getX()
+                + character.getHitbox().getX() / 2) != this.segmentIndex) {
+            return NONE;
+        }
+        return nodeOf(this.segment, character);
+    }
+
+    /**
+     * Returns where to go from a node to get closer to the player.
+     *
+     * @param node the node, see {@link #getNode(Character)}
+     * @return -1 to go left, 1 to go right, 0 if the node is the player's or
+     *         there is no way from it
+     */
+    public int getDirection(final int node) {
+        if (node == NONE || this.next[node] == NONE) {
+            return 0;
+        }
+        final NavGraph graph = this.segment.getNavigation();
+        return Integer.signum(graph.getColumn(this.next[node]) - graph.getColumn(node));
+    }
+
+    /**
+     * Tells whether the next move from a node is a jump.
+     *
+     * @param node the node, see {@link #getNode(Character)}
+     * @return true if the next node of the way is higher
+     */
+    public boolean isJump(final int node) {
+        if (node == NONE || this.next[node] == NONE) {
+            return false;
+        }
+        final NavGraph graph = this.segment.getNavigation();
+        return graph.getRow(this.next[node]) < graph.getRow(node);
+    }
+
+    /**
+     * Returns how many moves a node is from the player.
+     *
+     * @param node the node, see {@link #getNode(Character)}
+     * @return the number of moves, -1 if there is no way from the node
+     */
+    public int getDistance(final int node) {
+        return node == NONE ? -1 : this.distances[node];
+    }
+
+    private void search(final NavGraph graph) {
+        final int count = graph.getNodeCount();
+        if (this.distances.length < count) {
+            this.distances = new int[count];
+            this.next = new int[count];
+            this.queue = new int[count];
+        }
+        Arrays.fill(this.distances, 0, count, -1);
+        Arrays.fill(this.next, 0, count, NONE);
+        int head = 0;
+        int tail = 0;
+        this.distances[this.target] = 0;
+        this.queue[tail++] = this.target;
+        while (head < tail) {
+            final int node = this.queue[head++];
+            for (int e = graph.getInStart(node); e < graph.getInEnd(node); e++) {
+                final int source = graph.getSource(e);
+                if (this.distances[source] < 0) {
+                    this.distances[source] = this.distances[node] + 1;
+                    this.next[source] = node;
+                    this.queue[tail++] = source;
+                }
+            }
+        }
+    }
+
+    private static int nodeOf(final Segment segment, final Character character) {
+        final int column = (int) Math.floor(character.getPosition().getX() + character.getHitbox().getX() / 2
+                - segment.getOffset());
+        final int row = (int) Math.floor(character.getPosition().getY() + character.getHitbox().getY() - FEET);
+        return segment.getNavigation().getNodeBelow(column, row);
+    }
+}
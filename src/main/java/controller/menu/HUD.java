@@ -17,6 +17,8 @@ public class HUD {
     @FXML
     private Label date;
     @FXML
+    private Label metrics;
+    @FXML
     private BorderPane bp;
 
     /**
@@ -29,6 +31,29 @@ public class HUD {
         date.setText(ud.getTime());
     }
 
+    /**
+     * Shows or hides the metrics of the ticks.
+     * @param visible
+     */
+    public void setMetricsVisible(final boolean visible) {
+        metrics.setVisible(visible);
+    }
+
+    /**
+     * @return true if the metrics of the ticks are shown
+     */
+    public boolean isMetricsVisible() {
+        return metrics.isVisible();
+    }
+
+    /**
+     * Modifies the Label with the metrics of the ticks.
+     * @param text the metrics, see {@link controller.TickProfiler#summary()}
+     */
+    public void refreshMetrics(final String text) {
+        metrics.setText(text);
+    }
+
     /**
      * Sets the size of the BorderPane.
      * @param height
@@ -4,35 +4,41 @@ import java.util.Collection;
 import java.util.Optional;
 
 import controller.SoundsController;
+import model.EntityGrid;
+import model.Sweep;
 import model.character.Character;
 import model.character.Enemy;
 import model.character.Player;
 import model.map.Level;
-import model.weapons.Bullet;
+import model.map.Segment;
+import model.weapons.BulletPool;
 import view.sounds.SoundManager.Sounds;
 
 /**
- * Updates the bullets Collection, checking collisions with enemies and Map
- * tiles, or else ticking them.
+ * Updates the bullets pool, checking collisions with enemies and Map
+ * tiles, or else ticking them. Collisions are checked along the whole
+ * movement of the tick, so bullets can't go through thin walls or characters
+ * however fast they are.
  *
  */
 public class BulletsController {
-    private final Collection<Bullet> bulletsReference;
+    private final BulletPool bulletsReference;
     private final Player playerReference;
     private final Collection<Enemy> enemiesReference;
     private final SoundsController soundsControllerRef;
     private final Level levelReference;
+    private final EntityGrid<Enemy> enemiesGrid;
 
     /**
      * Instantiates BulletsController.
      * 
      * @param playerReference     - Reference to the Player
-     * @param bulletsReference    - Reference to the bullets collection
+     * @param bulletsReference    - Reference to the bullets pool
      * @param enemiesReference    - Reference to enemies Collection
      * @param soundsControllerRef - Reference to SoundController
      * @param levelReference      - Reference to Level
      */
-    public BulletsController(final Player playerReference, final Collection<Bullet> bulletsReference,
+    public BulletsController(final Player playerReference, final BulletPool bulletsReference,
             final Collection<Enemy> enemiesReference, final SoundsController soundsControllerRef,
             final Level levelReference) {
         this.playerReference = playerReference;
@@ -40,91 +46,104 @@ public class BulletsController {
         this.enemiesReference = enemiesReference;
         this.soundsControllerRef = soundsControllerRef;
         this.levelReference = levelReference;
+        this.enemiesGrid = new EntityGrid<>(1);
     }
 
     /**
      * Ticks BulletsController.
      */
     public void controllerTick() {
-        this.bulletsReference.forEach(b -> {
-            final boolean playerColliding = this.checkPlayerColliding(b);
-            final var enemyColliding = this.checkEnemyColliding(b);
-            final boolean tileColliding = this.checkTilesColliding(b);
+        final int playerSegmentIndex = this.levelReference.getSegmentIndex(this.playerReference.getPosition().getX());
+        final Segment playerSegment = this.levelReference.getSegment(playerSegmentIndex);
+        this.enemiesGrid.clear(playerSegment.getOffset(), 0, playerSegment.getWidth(), playerSegment.getHeight());
+        for (final Enemy enemy : this.enemiesReference) {
+            this.enemiesGrid.insert(enemy);
+        }
 
-            if (playerColliding && !this.playerReference.equals(b.getOwner())) {
-                b.hitSomething();
-                this.playerReference.getHealth().hurt(b.getDamage());
-            } else if (tileColliding) {
-                b.hitSomething();
-            } else if (enemyColliding.isPresent() && !this.enemiesReference.contains(b.getOwner())) {
-                b.hitSomething();
-                enemyColliding.get().getHealth().hurt(b.getDamage());
-                if (enemyColliding.get().getHealth().isDead()) {
-                    this.soundsControllerRef.playSound(Sounds.DIE_1);
-                } else {
-                    this.soundsControllerRef.playSound(Sounds.HURT_1);
-                }
+        /*
+         * Bullets that hit something are removed by moving the last bullet in their
+         * place, so the pool is visited backwards.
+         */
+        for (int i = this.bulletsReference.size() - 1; i >= 0; i--) {
+            final double x = this.bulletsReference.getX(i);
+            final double y = this.bulletsReference.getY(i);
+            // a bullet stops at the first Tile on its way, and only hits what's before it
+            final double reach = this.checkTilesColliding(i);
+            final double dx = this.bulletsReference.getStepX(i) * reach;
+            final double dy = this.bulletsReference.getStepY(i) * reach;
+
+            if (this.checkPlayerColliding(i, dx, dy)
+                    && !this.playerReference.equals(this.bulletsReference.getOwner(i))) {
+                this.playerReference.getHealth().hurt(this.bulletsReference.getDamage(i));
+                this.bulletsReference.remove(i);
             } else {
-                if (b.getPosition().getY() > 0 && b.getPosition().getX() > 0
-                        && this.levelReference.getSegmentAtPosition(b.getPosition())
-                                .equals(this.levelReference.getSegmentAtPosition(this.playerReference.getPosition()))) {
-                    b.tick();
+                final var enemyColliding = this.checkEnemyColliding(i, dx, dy);
+                if (enemyColliding.isPresent()) {
+                    enemyColliding.get().getHealth().hurt(this.bulletsReference.getDamage(i));
+                    this.bulletsReference.remove(i);
+                    if (enemyColliding.get().getHealth().isDead()) {
+                        this.soundsControllerRef.playSound(Sounds.DIE_1);
+                    } else {
+                        this.soundsControllerRef.playSound(Sounds.HURT_1);
+                    }
+                } else if (reach < 1) {
+                    this.bulletsReference.remove(i);
+                } else if (y > 0 && x > 0 && this.levelReference.getSegmentIndex(x) == playerSegmentIndex) {
+                    this.bulletsReference.tick(i);
                 } else {
-                    b.hitSomething();
+                    this.bulletsReference.remove(i);
                 }
             }
-        });
-
-        /*
-         * This line removes from this.bullets bullets that have hit something
-         */
-        this.bulletsReference.removeIf(b -> b.hasHit());
+        }
     }
 
     /**
-     * Adds a Bullet in the bullets Collection.
+     * Adds a Bullet in the bullets pool.
      * 
      * @param owner - The Character who shots
      */
     public void addBullet(final Character owner) {
-        this.bulletsReference.add(new Bullet(owner));
+        this.bulletsReference.add(owner);
     }
 
     /**
-     * Checks if Bullet b is colliding with any of the current Characters in game.
+     * Checks if a moving bullet hits any of the current Characters in game.
+     * Only the enemies in the cells of the grid crossed by the bullet are tested,
+     * and enemies' bullets can't hit other enemies.
      * 
-     * @param b - Bullet to be checked
-     * @return Optional of the character colliding with Bullet b Optional.empty() if
-     *         b is not colliding with any Enemy
+     * @param i  - index of the bullet to be checked
+     * @param dx - horizontal movement of the bullet
+     * @param dy - vertical movement of the bullet
+     * @return Optional of the first character hit by the bullet, Optional.empty()
+     *         if the bullet doesn't hit any Enemy
      */
-    private Optional<Character> checkEnemyColliding(final Bullet b) {
-        for (final var c : this.enemiesReference) {
-            if (b.isColliding(c)) {
-                return Optional.of(c);
-            }
+    private Optional<Enemy> checkEnemyColliding(final int i, final double dx, final double dy) {
+        if (this.bulletsReference.getOwner(i) instanceof Enemy) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return this.enemiesGrid.findFirst(this.bulletsReference.getX(i), this.bulletsReference.getY(i),
+                this.bulletsReference.getHitboxSize(), this.bulletsReference.getHitboxSize(), dx, dy);
     }
 
     /**
-     * @param b - Bullet to be checked
-     * @return true if Bullet b is colliding with the player.
+     * @param i  - index of the bullet to be checked
+     * @param dx - horizontal movement of the bullet
+     * @param dy - vertical movement of the bullet
+     * @return true if the moving bullet hits the player.
      */
-    private boolean checkPlayerColliding(final Bullet b) {
-        return this.playerReference.isColliding(b);
+    private boolean checkPlayerColliding(final int i, final double dx, final double dy) {
+        return this.playerReference.sweep(this.bulletsReference.getX(i), this.bulletsReference.getY(i),
+                this.bulletsReference.getHitboxSize(), this.bulletsReference.getHitboxSize(), dx, dy) != Sweep.MISS;
     }
 
     /**
-     * @param b
-     * @return true if Bullet b is colliding with a Tile.
+     * @param i - index of the bullet to be checked
+     * @return the fraction of the bullet's movement in this tick after which it
+     *         enters a collidable Tile, 1 if it doesn't.
      */
-    private boolean checkTilesColliding(final Bullet b) {
-        if (b.getPosition().getX() > 0 && b.getPosition().getY() > 0) {
-            return this.levelReference.getSegmentAtPosition(b.getPosition()).getCollidableAtPosition(b.getPosition())
-                    .isPresent();
-        } else {
-            return false;
-        }
+    private double checkTilesColliding(final int i) {
+        return Math.min(1, Sweep.castTiles(this.levelReference, this.bulletsReference.getX(i),
+                this.bulletsReference.getY(i), this.bulletsReference.getStepX(i), this.bulletsReference.getStepY(i)));
     }
 
 }
@@ -12,7 +12,7 @@ public class Cooldown {
     /**
      * Total amount of ticks.
      */
-    private final int totalTicks;
+    private int totalTicks;
 
     /**
      * Amount of ticks elapsed.
@@ -28,6 +28,15 @@ public class Cooldown {
         this.elapsedTicks = 0;
     }
 
+    /**
+     * Starts the Cooldown again, so that the same one can be reused.
+     * @param totalTicks - total amount of ticks
+     */
+    public void restart(final int totalTicks) {
+        this.totalTicks = totalTicks;
+        this.elapsedTicks = 0;
+    }
+
     /**
      * Increments the number of elapsed ticks.
      */
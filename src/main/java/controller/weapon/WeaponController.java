@@ -6,7 +6,9 @@ import java.util.Map;
 import model.character.Character;
 
 /**
- * Handles weapons cooldowns for shooting and reloading.
+ * Handles weapons cooldowns for shooting and reloading. Every character keeps
+ * its Cooldowns until it's forgotten, and they are restarted on every shot or
+ * reload.
  *
  */
 public class WeaponController {
@@ -28,12 +30,20 @@ public class WeaponController {
         this.shootingTimers.forEach((c, sc) -> {
             sc.tick();
         });
-        this.shootingTimers.entrySet().removeIf(e -> e.getValue().isCooldownOver());
 
         this.reloadingTimers.forEach((c, sc) -> {
             sc.tick();
         });
-        this.reloadingTimers.entrySet().removeIf(e -> e.getValue().isCooldownOver());
+    }
+
+    /**
+     * Drops the Cooldowns of a character that won't shoot anymore.
+     * 
+     * @param character
+     */
+    public void forget(final Character character) {
+        this.shootingTimers.remove(character);
+        this.reloadingTimers.remove(character);
     }
 
     /**
@@ -44,11 +54,11 @@ public class WeaponController {
      * @return true if characterShooting has shot
      */
     public TryToShootReturn tryToShoot(final Character characterShooting) {
-        if (!this.shootingTimers.containsKey(characterShooting) && characterShooting.getWeapon().getBulletsInMag() != 0
-                && !this.reloadingTimers.containsKey(characterShooting)) {
+        if (isOver(this.shootingTimers, characterShooting) && characterShooting.getWeapon().getBulletsInMag() != 0
+                && isOver(this.reloadingTimers, characterShooting)) {
 
-            /* If characterShooting is not in this.timers, he can shoot */
-            this.shootingTimers.put(characterShooting, new Cooldown(characterShooting.getWeapon().getFireRate()));
+            /* If characterShooting has no running timer, he can shoot */
+            restart(this.shootingTimers, characterShooting, characterShooting.getWeapon().getFireRate());
             characterShooting.getWeapon().shoot();
             return TryToShootReturn.SHOOT;
 
@@ -66,14 +76,29 @@ public class WeaponController {
      * @return true if characterReloading has reloaded
      */
     public boolean tryToReload(final Character characterReloading) {
-        if (!this.reloadingTimers.containsKey(characterReloading)) {
-            this.reloadingTimers.put(characterReloading, new Cooldown(characterReloading.getWeapon().getReloadTime()));
+        if (isOver(this.reloadingTimers, characterReloading)) {
+            restart(this.reloadingTimers, characterReloading, characterReloading.getWeapon().getReloadTime());
             characterReloading.getWeapon().reload();
             return true;
         }
         return false;
     }
 
+    private static boolean isOver(final Map<Character, Cooldown> timers, final Character character) {
+        final Cooldown timer = timers.get(character);
+        return timer == null || timer.isCooldownOver();
+    }
+
+    private static void restart(final Map<Character, Cooldown> timers, final Character character,
+            final int totalTicks) {
+        final Cooldown timer = timers.get(character);
+        if (timer == null) {
+            timers.put(character, new Cooldown(totalTicks));
+        } else {
+            timer.restart(totalTicks);
+        }
+    }
+
     /**
      * Utility modeling this.tryToShoot() different outputs.
      *
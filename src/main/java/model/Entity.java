@@ -108,17 +108,47 @@ public abstract class Entity {
      * @return if the entities are colliding
      */
     public boolean isColliding(final Entity entity) {
+        return this.isColliding(entity.getPosition().getX(), entity.getPosition().getY(), entity.getHitbox().getX(),
+                entity.getHitbox().getY());
+    }
+
+    /**
+     * Returns if the current entity and the passed box are overlapped, with the
+     * same rules of {@link #isColliding(Entity)}.
+     * 
+     * @param x      the box's horizontal position
+     * @param y      the box's vertical position
+     * @param width  the box's width
+     * @param height the box's height
+     * @return if the entity and the box are colliding
+     */
+    public boolean isColliding(final double x, final double y, final double width, final double height) {
         final double x1 = this.getPosition().getX();
         final double y1 = this.getPosition().getY();
         final double w1 = this.getHitbox().getX();
         final double h1 = this.getHitbox().getY();
-        final double x2 = entity.getPosition().getX();
-        final double y2 = entity.getPosition().getY();
-        final double w2 = entity.getHitbox().getX();
-        final double h2 = entity.getHitbox().getY();
-        return (x1 <= x2 && x2 <= (x1 + w1)) && (y1 <= y2 && y2 <= (y1 + h1))
-                                             || 
-               (x2 <= x1 && x1 <= (x2 + w2)) && (y2 <= y1 && y1 <= (y2 + h2));
+        return (x1 <= x && x <= (x1 + w1)) && (y1 <= y && y <= (y1 + h1))
+                                           || 
+               (x <= x1 && x1 <= (x + width)) && (y <= y1 && y1 <= (y + height));
+    }
+
+    /**
+     * Returns when a box moving by the given amount touches the current entity,
+     * as computed by {@link Sweep#sweepBoxes}.
+     * 
+     * @param x      the box's horizontal position
+     * @param y      the box's vertical position
+     * @param width  the box's width
+     * @param height the box's height
+     * @param dx     the box's horizontal movement
+     * @param dy     the box's vertical movement
+     * @return the fraction of the movement at which the box touches the entity,
+     *         {@link Sweep#MISS} if it doesn't
+     */
+    public double sweep(final double x, final double y, final double width, final double height, final double dx,
+            final double dy) {
+        return Sweep.sweepBoxes(x, y, width, height, dx, dy, this.getPosition().getX(), this.getPosition().getY(),
+                this.getHitbox().getX(), this.getHitbox().getY());
     }
 
     /**
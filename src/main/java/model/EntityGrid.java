@@ -0,0 +1,194 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * A uniform grid of cells used as a broadphase for the collisions between
+ * entities. It is meant to be cleared and filled again every tick: every entity
+ * is registered in each cell its hitbox overlaps, so a collision query only has
+ * to test the entities sharing a cell with the queried one.
+ *
+ * @param <E> the type of the registered entities
+ */
+public class EntityGrid<E extends Entity> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final double cellSize;
+    private double originX;
+    private double originY;
+    private int columns;
+    private int rows;
+    /**
+     * The first entry of every cell, -1 if the cell is empty.
+     */
+    private int[] heads = new int[0];
+    /**
+     * The next entry in the same cell, -1 if it is the last one.
+     */
+    private int[] next = new int[INITIAL_CAPACITY];
+    private Object[] entries = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Creates an empty grid.
+     * 
+     * @param cellSize the side of a cell
+     * @throws IllegalArgumentException if cellSize is 0 or negative
+     */
+    public EntityGrid(final double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Removes every entity and moves the grid over a new area. Entities outside of
+     * this area are ignored by insert.
+     * 
+     * @param originX the leftmost coordinate of the area
+     * @param originY the topmost coordinate of the area
+     * @param width   the width of the area
+     * @param height  the height of the area
+     */
+    public void clear(final double originX, final double originY, final double width, final double height) {
+        this.originX = originX;
+        this.originY = originY;
+        this.columns = Math.max(1, (int) Math.ceil(width / this.cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / this.cellSize));
+        if (this.heads.length < this.columns * this.rows) {
+            this.heads = new int[this.columns * this.rows];
+        }
+        Arrays.fill(this.heads, 0, this.columns * this.rows, -1);
+        Arrays.fill(this.entries, 0, this.size, null);
+        this.size = 0;
+    }
+
+    /**
+     * Registers an entity in every cell its hitbox overlaps.
+     * 
+     * @param entity
+     */
+    public void insert(final E entity) {
+        final double x = entity.getPosition().getX();
+        final double y = entity.getPosition().getY();
+        final double maxX = x + entity.getHitbox().getX();
+        final double maxY = y + entity.getHitbox().getY();
+        if (maxX < this.originX || maxY < this.originY || x > this.originX + this.columns * this.cellSize
+                || y > this.originY + this.rows * this.cellSize) {
+            return;
+        }
+        final int lastColumn = this.column(maxX);
+        final int lastRow = this.row(maxY);
+        for (int row = this.row(y); row <= lastRow; row++) {
+            for (int column = this.column(x); column <= lastColumn; column++) {
+                this.add(entity, row * this.columns + column);
+            }
+        }
+    }
+
+    /**
+     * Returns the first registered entity colliding with the given one, tested
+     * through {@link Entity#isColliding(Entity)}.
+     * 
+     * @param entity
+     * @return the colliding entity, Optional.empty() if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<E> findColliding(final Entity entity) {
+        final double x = entity.getPosition().getX();
+        final double y = entity.getPosition().getY();
+        final int lastColumn = this.column(x + entity.getHitbox().getX());
+        final int lastRow = this.row(y + entity.getHitbox().getY());
+        for (int row = this.row(y); row <= lastRow; row++) {
+            for (int column = this.column(x); column <= lastColumn; column++) {
+                for (int i = this.heads[row * this.columns + column]; i >= 0; i = this.next[i]) {
+                    if (entity.isColliding((Entity) this.entries[i])) {
+                        return Optional.of((E) this.entries[i]);
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the first registered entity colliding with the given box, tested
+     * through {@link Entity#isColliding(double, double, double, double)}.
+     * 
+     * @param x      the box's horizontal position
+     * @param y      the box's vertical position
+     * @param width  the box's width
+     * @param height the box's height
+     * @return the colliding entity, Optional.empty() if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<E> findColliding(final double x, final double y, final double width, final double height) {
+        final int lastColumn = this.column(x + width);
+        final int lastRow = this.row(y + height);
+        for (int row = this.row(y); row <= lastRow; row++) {
+            for (int column = this.column(x); column <= lastColumn; column++) {
+                for (int i = this.heads[row * this.columns + column]; i >= 0; i = this.next[i]) {
+                    if (((Entity) this.entries[i]).isColliding(x, y, width, height)) {
+                        return Optional.of((E) this.entries[i]);
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the registered entity that a moving box touches first, tested
+     * through {@link Entity#sweep}.
+     * 
+     * @param x      the box's horizontal position
+     * @param y      the box's vertical position
+     * @param width  the box's width
+     * @param height the box's height
+     * @param dx     the box's horizontal movement
+     * @param dy     the box's vertical movement
+     * @return the first entity touched, Optional.empty() if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<E> findFirst(final double x, final double y, final double width, final double height,
+            final double dx, final double dy) {
+        final int lastColumn = this.column(Math.max(x, x + dx) + width);
+        final int lastRow = this.row(Math.max(y, y + dy) + height);
+        double first = Sweep.MISS;
+        Object found = null;
+        for (int row = this.row(Math.min(y, y + dy)); row <= lastRow; row++) {
+            for (int column = this.column(Math.min(x, x + dx)); column <= lastColumn; column++) {
+                for (int i = this.heads[row * this.columns + column]; i >= 0; i = this.next[i]) {
+                    final double t = ((Entity) this.entries[i]).sweep(x, y, width, height, dx, dy);
+                    if (t < first) {
+                        first = t;
+                        found = this.entries[i];
+                    }
+                }
+            }
+        }
+        return Optional.ofNullable((E) found);
+    }
+
+    private void add(final E entity, final int cell) {
+        if (this.size == this.entries.length) {
+            this.entries = Arrays.copyOf(this.entries, this.size * 2);
+            this.next = Arrays.copyOf(this.next, this.size * 2);
+        }
+        this.entries[this.size] = entity;
+        this.next[this.size] = this.heads[cell];
+        this.heads[cell] = this.size;
+        this.size++;
+    }
+
+    private int column(final double x) {
+        return Math.min(this.columns - 1, Math.max(0, (int) Math.floor((x - this.originX) / this.cellSize)));
+    }
+
+    private int row(final double y) {
+        return Math.min(this.rows - 1, Math.max(0, (int) Math.floor((y - this.originY) / this.cellSize)));
+    }
+}
@@ -0,0 +1,43 @@
+package model;
+
+/**
+ * Where a ray cast by {@link Sweep#raycast} entered a collidable Tile. It's
+ * filled by every cast instead of being created, so a caller that casts every
+ * tick keeps its own and doesn't allocate.
+ */
+public class RayHit {
+
+    private int column;
+    private int row;
+    private double distance;
+
+    /**
+     *
+     * @return the column of the Tile that was hit
+     */
+    public int getColumn() {
+        return this.column;
+    }
+
+    /**
+     *
+     * @return the row of the Tile that was hit
+     */
+    public int getRow() {
+        return this.row;
+    }
+
+    /**
+     *
+     * @return how far from its start the ray entered the Tile, in Tiles
+     */
+    public double getDistance() {
+        return this.distance;
+    }
+
+    void set(final int column, final int row, final double distance) {
+        this.column = column;
+        this.row = row;
+        this.distance = distance;
+    }
+}
@@ -3,8 +3,7 @@ package model;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.List;
 import javax.management.InstanceNotFoundException;
 import model.character.Enemy;
 
@@ -12,8 +11,11 @@ import model.character.Player;
 import model.character.Player.PlayerBuilder;
 import model.character.tools.health.SimpleHealth;
 import model.map.Level;
+import model.map.Segment;
 import model.weapons.Bullet;
+import model.weapons.BulletPool;
 import model.weapons.R99;
+import util.RandomSource;
 import util.Vector2D;
 
 /**
@@ -22,10 +24,17 @@ import util.Vector2D;
  */
 public class StageImpl {
 
+    /**
+     * The maps of the Level's Segments, in the order they are traversed.
+     */
+    public static final List<String> SEGMENTS = List.of("segments/map.txt", "segments/map2.txt",
+            "segments/map3.txt", "segments/map4.txt");
+
     private final Player player;
     private final Collection<Enemy> enemies;
-    private final Collection<Bullet> bullets;
+    private final BulletPool bullets;
     private final Level level;
+    private final RandomSource random;
 
     /**
      * The stage constructor.
@@ -34,9 +43,30 @@ public class StageImpl {
      * @throws InstanceNotFoundException
      */
     public StageImpl() throws IOException, InstanceNotFoundException {
-        this.level = new Level(
-                Stream.of("segments/map.txt", "segments/map2.txt", "segments/map3.txt", "segments/map4.txt")
-                        .collect(Collectors.toList()));
+        this(new Level(SEGMENTS));
+    }
+
+    /**
+     * Creates a stage on the given Level, spawning the enemies of its Segments.
+     * 
+     * @param level the Level, with at least the Segment where the player spawns
+     * @throws InstanceNotFoundException if the player's spawn is not in the Level
+     */
+    public StageImpl(final Level level) throws InstanceNotFoundException {
+        this(level, new RandomSource());
+    }
+
+    /**
+     * Creates a stage on the given Level whose random values come from the
+     * given source.
+     * 
+     * @param level  the Level, with at least the Segment where the player spawns
+     * @param random the source of the random values of the match
+     * @throws InstanceNotFoundException if the player's spawn is not in the Level
+     */
+    public StageImpl(final Level level, final RandomSource random) throws InstanceNotFoundException {
+        this.level = level;
+        this.random = random;
         this.enemies = new LinkedList<>();
         addEnemies();
         this.player = new PlayerBuilder()
@@ -46,7 +76,7 @@ public class StageImpl {
                 .health(new SimpleHealth())
                 .lives(3)
                 .build();
-        this.bullets = new LinkedList<>();
+        this.bullets = new BulletPool(random.split());
     }
 
     /**
@@ -65,6 +95,14 @@ public class StageImpl {
         return this.level;
     }
 
+    /**
+     * Returns the source of the random values of the match.
+     * @return the RandomSource.
+     */
+    public RandomSource getRandom() {
+        return this.random;
+    }
+
     /**
      * Returns a Collection of all the Enemies.
      * @return all the Enemies.
@@ -75,12 +113,51 @@ public class StageImpl {
 
     /**
      * Returns a Collection of all the Bullets.
-     * @return all the Bullets.
+     * @return a read-only view of all the Bullets.
      */
     public Collection<Bullet> getBullets() {
+        return this.bullets.asCollection();
+    }
+
+    /**
+     * Returns the pool where all the Bullets are stored.
+     * @return the BulletPool.
+     */
+    public BulletPool getBulletPool() {
         return this.bullets;
     }
 
+    /**
+     * Spawns the enemies of a Segment that has just been appended to the Level.
+     * @param segment the new Segment.
+     * @return the spawned Enemies.
+     */
+    public Collection<Enemy> spawnEnemies(final Segment segment) {
+        final Collection<Enemy> spawned = new LinkedList<>();
+        for (final Vector2D pos : segment.getEnemiesSpawn()) {
+            spawned.add(new Enemy(pos, new Vector2D(1, 1.5), new SimpleHealth()));
+        }
+        this.enemies.addAll(spawned);
+        return spawned;
+    }
+
+    /**
+     * Removes the enemies standing on a Segment that has been evicted from the Level.
+     * @param segment the evicted Segment.
+     * @return the removed Enemies.
+     */
+    public Collection<Enemy> despawnEnemies(final Segment segment) {
+        final Collection<Enemy> removed = new LinkedList<>();
+        for (final Enemy enemy : this.enemies) {
+            final double x = enemy.getPosition().getX();
+            if (x >= segment.getOffset() && x < segment.getOffset() + segment.getWidth()) {
+                removed.add(enemy);
+            }
+        }
+        this.enemies.removeAll(removed);
+        return removed;
+    }
+
     private void addEnemies() {
         for (final Vector2D pos : level.getEnemiesSpawn()) {
             enemies.add(new Enemy(pos, new Vector2D(1, 1.5), new SimpleHealth()));
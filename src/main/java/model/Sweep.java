@@ -0,0 +1,163 @@
+package model;
+
+import model.map.Level;
+
+/**
+ * Continuous collision tests, which follow a movement along the whole tick
+ * instead of looking only at where it ends, so that nothing fast enough to
+ * cross a Tile or a hitbox in a single tick can go through it. Both tests
+ * return the fraction of the movement after which the collision happens.
+ */
+public final class Sweep {
+
+    /**
+     * Returned when there is no collision during the movement.
+     */
+    public static final double MISS = Double.POSITIVE_INFINITY;
+
+    private Sweep() {
+        // the constructor will never be called directly.
+    }
+
+    /**
+     * Follows a point moving in a straight line through the grid of Tiles, one
+     * Tile after the other (DDA traversal), until it enters a collidable one.
+     * The Tiles outside of the resident Segments are not collidable.
+     *
+     * @param level the Level the point moves in
+     * @param x     the starting horizontal position
+     * @param y     the starting vertical position
+     * @param dx    the horizontal movement
+     * @param dy    the vertical movement
+     * @return the fraction of the movement at which the point enters a
+     *         collidable Tile, 0 if it starts in one, {@link #MISS} if it never
+     *         does
+     */
+    public static double castTiles(final Level level, final double x, final double y, final double dx,
+            final double dy) {
+        return cast(level, x, y, dx, dy, null);
+    }
+
+    /**
+     * Casts a ray through the grid of Tiles, as {@link #castTiles}, and tells
+     * which Tile stopped it.
+     *
+     * @param level the Level the ray is cast in
+     * @param x     the starting horizontal position
+     * @param y     the starting vertical position
+     * @param dx    the horizontal length of the ray
+     * @param dy    the vertical length of the ray
+     * @param hit   filled with the first collidable Tile and its distance, if
+     *              the ray hits one
+     * @return true if the ray hits a collidable Tile
+     */
+    public static boolean raycast(final Level level, final double x, final double y, final double dx,
+            final double dy, final RayHit hit) {
+        return cast(level, x, y, dx, dy, hit) != MISS;
+    }
+
+    /**
+     * Checks that no collidable Tile stands between two points.
+     *
+     * @param level the Level of the points
+     * @param fromX the first point's horizontal position
+     * @param fromY the first point's vertical position
+     * @param toX   the second point's horizontal position
+     * @param toY   the second point's vertical position
+     * @return true if one point can see the other
+     */
+    public static boolean hasLineOfSight(final Level level, final double fromX, final double fromY,
+            final double toX, final double toY) {
+        return cast(level, fromX, fromY, toX - fromX, toY - fromY, null) == MISS;
+    }
+
+    private static double cast(final Level level, final double x, final double y, final double dx,
+            final double dy, final RayHit hit) {
+        int column = (int) Math.floor(x);
+        int row = (int) Math.floor(y);
+        if (isCollidable(level, column, row)) {
+            if (hit != null) {
+                hit.set(column, row, 0);
+            }
+            return 0;
+        }
+        final int stepColumn = dx > 0 ? 1 : -1;
+        final int stepRow = dy > 0 ? 1 : -1;
+        // the fraction of the movement needed to cross a whole Tile on each axis
+        final double deltaX = dx == 0 ? MISS : Math.abs(1 / dx);
+        final double deltaY = dy == 0 ? MISS : Math.abs(1 / dy);
+        double nextX = dx == 0 ? MISS : (dx > 0 ? column + 1 - x : x - column) * deltaX;
+        double nextY = dy == 0 ? MISS : (dy > 0 ? row + 1 - y : y - row) * deltaY;
+        while (true) {
+            final double t;
+            if (nextX < nextY) {
+                t = nextX;
+                column += stepColumn;
+                nextX += deltaX;
+            } else {
+                t = nextY;
+                row += stepRow;
+                nextY += deltaY;
+            }
+            if (t > 1) {
+                return MISS;
+            }
+            if (isCollidable(level, column, row)) {
+                if (hit != null) {
+                    hit.set(column, row, t * Math.hypot(dx, dy));
+                }
+                return t;
+            }
+        }
+    }
+
+    /**
+     * Moves a box against a still one (swept AABB). Boxes that only touch are
+     * colliding, as in {@link Entity#isColliding(double, double, double, double)}.
+     *
+     * @param x      the moving box's horizontal position
+     * @param y      the moving box's vertical position
+     * @param width  the moving box's width
+     * @param height the moving box's height
+     * @param dx     the horizontal movement
+     * @param dy     the vertical movement
+     * @param otherX the still box's horizontal position
+     * @param otherY the still box's vertical position
+     * @param otherW the still box's width
+     * @param otherH the still box's height
+     * @return the fraction of the movement at which the boxes first touch, 0 if
+     *         they already overlap, {@link #MISS} if they never do
+     */
+    public static double sweepBoxes(final double x, final double y, final double width, final double height,
+            final double dx, final double dy, final double otherX, final double otherY, final double otherW,
+            final double otherH) {
+        double entry = 0;
+        double exit = 1;
+        if (dx == 0) {
+            if (x > otherX + otherW || x + width < otherX) {
+                return MISS;
+            }
+        } else {
+            final double first = (otherX - x - width) / dx;
+            final double second = (otherX + otherW - x) / dx;
+            entry = Math.max(entry, Math.min(first, second));
+            exit = Math.min(exit, Math.max(first, second));
+        }
+        if (dy == 0) {
+            if (y > otherY + otherH || y + height < otherY) {
+                return MISS;
+            }
+        } else {
+            final double first = (otherY - y - height) / dy;
+            final double second = (otherY + otherH - y) / dy;
+            entry = Math.max(entry, Math.min(first, second));
+            exit = Math.min(exit, Math.max(first, second));
+        }
+        return entry <= exit ? entry : MISS;
+    }
+
+    private static boolean isCollidable(final Level level, final int column, final int row) {
+        final int index = level.getSegmentIndex(column);
+        return index >= 0 && level.getSegment(index).isCollidableAt(column, row);
+    }
+}
@@ -1,42 +1,45 @@
 package model.character.movableentity;
 
-import controller.Controller;
-
 /**
  * This is a static class where all the main environment constants are
  * contained. The constants can be modified to fit any possible environment
  */
 public final class EntityConstants {
 
+    /**
+     * Ticks per second: how many steps of the simulation make a second. Every
+     * speed below is given per tick.
+     */
+    public static final double TPS = 60;
     /**
      * Field that represents the max horizontal speed (in module) reachable in this
      * environment.
      */
-    public static final double MAXHORIZONTALSPEED = 5 / Controller.TPS;
+    public static final double MAXHORIZONTALSPEED = 5 / TPS;
     /**
      * Field that represents the max vertical speed (in module) reachable in this
      * environment.
      */
-    public static final double MAXVERTICALSPEED = 8 / Controller.TPS;
+    public static final double MAXVERTICALSPEED = 8 / TPS;
     /**
      * Field that represents the speed reached by the jumping subjects in this
      * environment.
      */
-    public static final double JUMP = -7 / Controller.TPS;
+    public static final double JUMP = -7 / TPS;
     /**
      * Field that represents the horizontal deceleration (in module) in this
      * environment.
      */
-    public static final double DECELERATION = 1 / Controller.TPS;
+    public static final double DECELERATION = 1 / TPS;
     /**
      * Field that represents the horizontal acceleration (in module) in this
      * environment.
      */
-    public static final double ACCELERATION = 0.5 / Controller.TPS;
+    public static final double ACCELERATION = 0.5 / TPS;
     /**
      * Field that represents the vertical acceleration in this environment.
      */
-    public static final double GRAVITY = 9.81 / Math.pow(Controller.TPS, 2);
+    public static final double GRAVITY = 9.81 / Math.pow(TPS, 2);
 
     //For enemy only
 
@@ -176,22 +176,23 @@ public abstract class MovableEntity extends Entity {
      * updates the current position.
      */
     public void moveEntity() {
-        final Vector2D update = new Vector2D();
+        final double updateX;
+        double updateY = 0;
         if (this.right && !this.left) {
-            update.setX(EntityConstants.ACCELERATION);
+            updateX = EntityConstants.ACCELERATION;
         } else if (this.left && !this.right) {
-            update.setX(-EntityConstants.ACCELERATION);
+            updateX = -EntityConstants.ACCELERATION;
         } else {
-            update.setX(this.decelerate());
+            updateX = this.decelerate();
         }
         if (this.jump && !this.fall) {
             this.fall = true;
-            update.setY(EntityConstants.JUMP);
+            updateY = EntityConstants.JUMP;
         }
         if (this.fall) {
-            update.setY(update.getY() + EntityConstants.GRAVITY);
+            updateY += EntityConstants.GRAVITY;
         }
-        this.speed.add(update);
+        this.speed.add(updateX, updateY);
         this.maxSpeedCheck();
         super.setPosition(super.getPosition().getX() + this.speed.getX(),
                 super.getPosition().getY() + this.speed.getY());
@@ -216,15 +217,13 @@ public abstract class MovableEntity extends Entity {
     }
 
     private void increaseHitbox() {
-        super.setPosition(
-                new Vector2D(this.getPosition().getX(), this.getPosition().getY() - super.getHitbox().getY()));
+        super.setPosition(this.getPosition().getX(), this.getPosition().getY() - super.getHitbox().getY());
         super.getHitbox().setY(super.getHitbox().getY() * 2);
     }
 
     private void decreaseHitbox() {
         super.getHitbox().setY(super.getHitbox().getY() / 2);
-        super.setPosition(
-                new Vector2D(this.getPosition().getX(), this.getPosition().getY() + super.getHitbox().getY()));
+        super.setPosition(this.getPosition().getX(), this.getPosition().getY() + super.getHitbox().getY());
     }
 
     private void maxSpeedCheck() {
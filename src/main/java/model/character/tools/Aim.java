@@ -10,6 +10,12 @@ import util.direction.DirectionVertical;
  */
 public final class Aim {
 
+    /*
+     * Every possible direction, indexed by the ordinals of its components, so
+     * that aiming never creates a Pair.
+     */
+    private static final Pair<DirectionHorizontal, DirectionVertical>[][] DIRECTIONS = directions();
+
     /**
      * Field for direction.
      */
@@ -19,7 +25,7 @@ public final class Aim {
      * Starts by default aiming at its right.
      */
     public Aim() {
-        this.direction = new Pair<>(DirectionHorizontal.RIGHT, DirectionVertical.NEUTRAL);
+        this.direction = of(DirectionHorizontal.RIGHT, DirectionVertical.NEUTRAL);
     }
 
     /**
@@ -37,7 +43,7 @@ public final class Aim {
      * @param direction
      */
     public void setHorizontal(final DirectionHorizontal direction) {
-        this.direction = new Pair<>(direction, DirectionVertical.NEUTRAL);
+        this.direction = of(direction, DirectionVertical.NEUTRAL);
     }
 
     /**
@@ -46,7 +52,7 @@ public final class Aim {
      * @param direction
      */
     public void setVertical(final DirectionVertical direction) {
-        this.direction = new Pair<>(this.direction.getX(), direction);
+        this.direction = of(this.direction.getX(), direction);
     }
 
     /**
@@ -63,7 +69,24 @@ public final class Aim {
      * facing.
      */
     public void returnToHorizontal() {
-        this.direction = new Pair<>(this.direction.getX(), DirectionVertical.NEUTRAL);
+        this.direction = of(this.direction.getX(), DirectionVertical.NEUTRAL);
+    }
+
+    private static Pair<DirectionHorizontal, DirectionVertical> of(final DirectionHorizontal horizontal,
+            final DirectionVertical vertical) {
+        return DIRECTIONS[horizontal.ordinal()][vertical.ordinal()];
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Pair<DirectionHorizontal, DirectionVertical>[][] directions() {
+        final Pair<DirectionHorizontal, DirectionVertical>[][] directions =
+                new Pair[DirectionHorizontal.values().length][DirectionVertical.values().length];
+        for (final DirectionHorizontal horizontal : DirectionHorizontal.values()) {
+            for (final DirectionVertical vertical : DirectionVertical.values()) {
+                directions[horizontal.ordinal()][vertical.ordinal()] = new Pair<>(horizontal, vertical);
+            }
+        }
+        return directions;
     }
 
     /**
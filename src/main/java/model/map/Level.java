@@ -1,7 +1,10 @@
 package model.map;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -9,15 +12,37 @@ import java.util.Optional;
 import javax.management.InstanceNotFoundException;
 
 import util.Vector2D;
+import util.map.BinaryMap;
 import util.map.TextMap;
 
 /**
  * 
  * Defines a Level made up of Segments.
+ * The Segments' left edges are kept as prefix offsets, so positional lookups are binary searches.
+ * A streamed Level keeps only a window of its Segments: new ones are appended on the right and
+ * the ones left behind are evicted, while every Segment keeps the index it was appended with.
  */
 public class Level {
 
-    private final List<Segment> segments = new LinkedList<>();
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * The resident Segments: the first one has index firstIndex.
+     */
+    private final List<Segment> segments = new ArrayList<>();
+    /**
+     * offsets[i] is the left edge of the i-th resident Segment, offsets[size] the right edge of the last one.
+     */
+    private double[] offsets = new double[INITIAL_CAPACITY + 1];
+    private int firstIndex;
+    private boolean finished;
+
+    /**
+     * Creates an empty Level, to which Segments are appended while it is played.
+     */
+    public Level() {
+        // the Segments are appended by whoever streams the Level.
+    }
 
     /**
      * 
@@ -25,20 +50,136 @@ public class Level {
      * @throws IOException
      */
     public Level(final List<String> segmentTextList) throws IOException {
-        double i = 0;
         for (final String segmentText : segmentTextList) {
-            final TextMap tempMap = new TextMap(segmentText);
-            segments.add(new Segment(tempMap, i));
-            i += tempMap.getWidth();
+            this.append(load(segmentText, this.getWidth()));
         }
+        this.finished = true;
     }
 
     /**
-     * Returns the Segments that make up the level.
+     * Returns the resident Segments of the level, that is all of them unless the Level is streamed.
      * @return the Segments that make up the level.
      */
     public List<Segment> getSegments() {
-        return this.segments;
+        return Collections.unmodifiableList(this.segments);
+    }
+
+    /**
+     * Returns a resident Segment.
+     * @param index
+     * @return the Segment with the given index.
+     * @throws IllegalArgumentException if the Segment has been evicted or not appended yet.
+     */
+    public Segment getSegment(final int index) {
+        if (index < this.firstIndex || index >= this.getSegmentCount()) {
+            throw new IllegalArgumentException();
+        }
+        return this.segments.get(index - this.firstIndex);
+    }
+
+    /**
+     * Returns the number of Segments appended so far, evicted ones included.
+     * @return the index the next Segment will have.
+     */
+    public int getSegmentCount() {
+        return this.firstIndex + this.segments.size();
+    }
+
+    /**
+     * Returns the index of the first resident Segment.
+     * @return the index of the first Segment that has not been evicted.
+     */
+    public int getFirstSegmentIndex() {
+        return this.firstIndex;
+    }
+
+    /**
+     * Tells if all the Segments of the Level have been appended.
+     * @return true if no more Segments will be appended.
+     */
+    public boolean isFinished() {
+        return this.finished;
+    }
+
+    /**
+     * Marks the Level as finished: its last Segment has been appended.
+     */
+    public void finish() {
+        this.finished = true;
+    }
+
+    /**
+     * Returns the Level's width up to its rightmost edge.
+     * @return the distance between the leftmost and rightmost edges of the Level.
+     */
+    public double getWidth() {
+        return this.offsets[this.segments.size()];
+    }
+
+    /**
+     * Appends a Segment to the right of the Level.
+     * @param segment a Segment whose offset is the Level's width.
+     * @throws IllegalArgumentException if the Segment doesn't start where the Level ends.
+     * @throws IllegalStateException if the Level is finished.
+     */
+    public void append(final Segment segment) {
+        if (this.finished) {
+            throw new IllegalStateException();
+        }
+        if (segment.getOffset() != this.getWidth()) {
+            throw new IllegalArgumentException();
+        }
+        final int size = this.segments.size();
+        if (size + 1 == this.offsets.length) {
+            this.offsets = Arrays.copyOf(this.offsets, size * 2 + 1);
+        }
+        this.segments.add(segment);
+        this.offsets[size + 1] = this.offsets[size] + segment.getWidth();
+    }
+
+    /**
+     * Evicts the Segments that come before the given one, which stop being part of the Level's lookups.
+     * @param index the index of the first Segment to be kept.
+     * @return the evicted Segments, from left to right.
+     */
+    public List<Segment> evictBefore(final int index) {
+        final int count = Math.min(index, this.getSegmentCount()) - this.firstIndex;
+        if (count <= 0) {
+            return List.of();
+        }
+        final List<Segment> evicted = new ArrayList<>(this.segments.subList(0, count));
+        this.segments.subList(0, count).clear();
+        System.arraycopy(this.offsets, count, this.offsets, 0, this.segments.size() + 1);
+        this.firstIndex += count;
+        return evicted;
+    }
+
+    /**
+     * Returns the index of the Segment on which the given x coordinate lands.
+     * @param x
+     * @return the Segment's index, or -1 if x is outside of the Level or on an evicted Segment.
+     */
+    public int getSegmentIndex(final double x) {
+        final int size = this.segments.size();
+        if (!(x >= this.offsets[0] && x < this.offsets[size])) {
+            return -1;
+        }
+        final int found = Arrays.binarySearch(this.offsets, 0, size + 1, x);
+        return this.firstIndex + (found >= 0 ? found : -found - 2);
+    }
+
+    /**
+     * Returns the index of a Segment of the Level.
+     * @param target
+     * @return the Segment's index.
+     * @throws IllegalArgumentException if the Segment is not part of the Level.
+     */
+    public int getSegmentIndex(final Segment target) {
+        final int index = this.getSegmentIndex(target.getOffset());
+        if (index < 0 || this.segments.get(index - this.firstIndex) != target) {
+            throw new IllegalArgumentException();
+        }
+        return index;
     }
 
     /**
@@ -47,14 +188,26 @@ public class Level {
      * @return the Segment on which the coordinates land.
      */
     public Segment getSegmentAtPosition(final Vector2D position) {
-        double i = 0;
-        for (final Segment tempSegment : this.getSegments()) {
-            if (position.getX() >= i && position.getX() < i + tempSegment.getTextMap().getWidth()) {
-                return tempSegment;
-            }
-            i += tempSegment.getTextMap().getWidth();
+        final int index = this.getSegmentIndex(position.getX());
+        if (index < 0) {
+            throw new IllegalArgumentException();
+        }
+        return this.segments.get(index - this.firstIndex);
+    }
+
+    /**
+     * Checks if the Tile present at the given coordinates of the Level is collidable.
+     * @param x
+     * @param y
+     * @return the requested Tile's collidability.
+     * @throws IllegalArgumentException if x is outside of the Level.
+     */
+    public boolean isCollidableAt(final double x, final double y) {
+        final int index = this.getSegmentIndex(x);
+        if (index < 0) {
+            throw new IllegalArgumentException();
         }
-        throw new IllegalArgumentException();
+        return this.segments.get(index - this.firstIndex).isCollidableAt(x, y);
     }
 
     /**
@@ -64,12 +217,15 @@ public class Level {
      * @return the nth Segment after the Segment on which the coordinates land.
      */
     public Optional<Segment> getSegmentAtPositionOffset(final Vector2D position, final int offset) {
-        if (this.getSegments().indexOf(this.getSegmentAtPosition(position)) + offset >= this.getSegments().size()
-                || this.getSegments().indexOf(this.getSegmentAtPosition(position)) + offset < 0) {
+        final int current = this.getSegmentIndex(position.getX());
+        if (current < 0) {
+            throw new IllegalArgumentException();
+        }
+        final int index = current + offset;
+        if (index >= this.getSegmentCount() || index < this.firstIndex) {
             return Optional.empty();
         }
-        return Optional
-                .of(this.getSegments().get(this.getSegments().indexOf(this.getSegmentAtPosition(position)) + offset));
+        return Optional.of(this.segments.get(index - this.firstIndex));
     }
 
     /**
@@ -92,14 +248,7 @@ public class Level {
      * @return the distance of the rightmost edge of the current segment.
      */
     public double getDistance(final Segment target) {
-        double dist = 0;
-        for (final Segment temp : this.getSegments()) {
-            dist += temp.getTextMap().getWidth();
-            if (temp.equals(target)) {
-                return dist;
-            }
-        }
-        throw new IllegalArgumentException();
+        return this.offsets[this.getSegmentIndex(target) - this.firstIndex + 1];
     }
 
     /**
@@ -113,4 +262,16 @@ public class Level {
         }
         return positions;
     }
+
+    /**
+     * Loads a Segment from its text map, or from the compiled map next to it if
+     * the text map has been compiled. A compiled map can also be given directly.
+     */
+    private static Segment load(final String path, final double offset) throws IOException {
+        final String compiledPath = BinaryMap.compiledPath(path);
+        if (ClassLoader.getSystemResource(compiledPath) != null) {
+            return new Segment(BinaryMap.load(compiledPath), offset);
+        }
+        return new Segment(new TextMap(path), offset);
+    }
 }
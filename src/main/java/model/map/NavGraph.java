@@ -0,0 +1,251 @@
+package model.map;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ *
+ * The places of a Segment where a Character can stand and how it can move
+ * between them, built once from the Segment's grid. A node is a free cell with
+ * a free cell above it, for the head, and a collidable one below it. A node
+ * leads to the nodes next to it: walking, jumping up to {@link #MAX_CLIMB}
+ * cells higher or dropping to the first node below. Cells are relative to the
+ * Segment's origin and the edges are kept as arrays (compressed rows), both
+ * the outgoing and the incoming ones, so that walking the graph never
+ * allocates.
+ */
+public class NavGraph {
+
+    /**
+     * Returned when there is no node.
+     */
+    public static final int NONE = -1;
+    /**
+     * The most cells a jump can climb: a jump rises about two and a half Tiles.
+     */
+    public static final int MAX_CLIMB = 2;
+
+    private final int width;
+    private final int height;
+    private final BitSet collidables;
+    /**
+     * The node of every cell, NONE where a Character can't stand.
+     */
+    private final int[] nodes;
+    /**
+     * The cell of every node.
+     */
+    private final int[] cells;
+    private final int[] outStart;
+    private final int[] out;
+    private final int[] inStart;
+    private final int[] in;
+
+    /**
+     * Builds the graph of a grid.
+     * @param width
+     * @param height
+     * @param collidables the collidable cells, indexed by (y * width + x)
+     */
+    NavGraph(final int width, final int height, final BitSet collidables) {
+        this.width = width;
+        this.height = height;
+        this.collidables = collidables;
+        this.nodes = new int[width * height];
+        Arrays.fill(this.nodes, NONE);
+        int count = 0;
+        for (int i = 0; i < this.nodes.length; i++) {
+            if (this.isStandable(i % width, i / width)) {
+                this.nodes[i] = count++;
+            }
+        }
+        this.cells = new int[count];
+        for (int i = 0; i < this.nodes.length; i++) {
+            if (this.nodes[i] != NONE) {
+                this.cells[this.nodes[i]] = i;
+            }
+        }
+        // every node has at most a walk, the climbs and a drop on each side
+        final int[] targets = new int[2 * (MAX_CLIMB + 2)];
+        final int[] degrees = new int[count];
+        final int[] inDegrees = new int[count];
+        for (int node = 0; node < count; node++) {
+            final int edges = this.neighbours(node, targets);
+            degrees[node] = edges;
+            for (int e = 0; e < edges; e++) {
+                inDegrees[targets[e]]++;
+            }
+        }
+        this.outStart = prefix(degrees);
+        this.inStart = prefix(inDegrees);
+        this.out = new int[this.outStart[count]];
+        this.in = new int[this.inStart[count]];
+        final int[] filled = new int[count];
+        for (int node = 0; node < count; node++) {
+            final int edges = this.neighbours(node, targets);
+            System.arraycopy(targets, 0, this.out, this.outStart[node], edges);
+            for (int e = 0; e < edges; e++) {
+                this.in[this.inStart[targets[e]] + filled[targets[e]]++] = node;
+            }
+        }
+    }
+
+    /**
+     * @return the number of nodes.
+     */
+    public int getNodeCount() {
+        return this.cells.length;
+    }
+
+    /**
+     * Returns the node at the given cell, relative to the Segment's origin.
+     * @param x
+     * @param y
+     * @return the node, or NONE if a Character can't stand there.
+     */
+    public int getNode(final int x, final int y) {
+        return x < 0 || x >= this.width || y < 0 || y >= this.height ? NONE : this.nodes[y * this.width + x];
+    }
+
+    /**
+     * Returns the node a Character at the given cell lands on, falling straight
+     * down: the node at the cell itself if it's standing.
+     * @param x
+     * @param y
+     * @return the node, or NONE if there is nothing to land on.
+     */
+    public int getNodeBelow(final int x, final int y) {
+        if (x < 0 || x >= this.width) {
+            return NONE;
+        }
+        for (int row = Math.max(0, y); row < this.height; row++) {
+            if (this.isCollidable(x, row)) {
+                return NONE;
+            }
+            if (this.nodes[row * this.width + x] != NONE) {
+                return this.nodes[row * this.width + x];
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * @param node
+     * @return the column of the node's cell.
+     */
+    public int getColumn(final int node) {
+        return this.cells[node] % this.width;
+    }
+
+    /**
+     * @param node
+     * @return the row of the node's cell.
+     */
+    public int getRow(final int node) {
+        return this.cells[node] / this.width;
+    }
+
+    /**
+     * @param node
+     * @return the index of the node's first outgoing edge, see {@link #getTarget(int)}.
+     */
+    public int getOutStart(final int node) {
+        return this.outStart[node];
+    }
+
+    /**
+     * @param node
+     * @return the index after the node's last outgoing edge.
+     */
+    public int getOutEnd(final int node) {
+        return this.outStart[node + 1];
+    }
+
+    /**
+     * @param edge
+     * @return the node the outgoing edge leads to.
+     */
+    public int getTarget(final int edge) {
+        return this.out[edge];
+    }
+
+    /**
+     * @param node
+     * @return the index of the node's first incoming edge, see {@link #getSource(int)}.
+     */
+    public int getInStart(final int node) {
+        return this.inStart[node];
+    }
+
+    /**
+     * @param node
+     * @return the index after the node's last incoming edge.
+     */
+    public int getInEnd(final int node) {
+        return this.inStart[node + 1];
+    }
+
+    /**
+     * @param edge
+     * @return the node the incoming edge comes from.
+     */
+    public int getSource(final int edge) {
+        return this.in[edge];
+    }
+
+    /*
+     * Writes the nodes reachable from a node in a single move, returning how
+     * many they are.
+     */
+    private int neighbours(final int node, final int[] targets) {
+        final int x = this.getColumn(node);
+        final int y = this.getRow(node);
+        int count = 0;
+        for (int dx = -1; dx <= 1; dx += 2) {
+            final int nx = x + dx;
+            if (nx < 0 || nx >= this.width) {
+                continue;
+            }
+            if (this.nodes[y * this.width + nx] != NONE) {
+                targets[count++] = this.nodes[y * this.width + nx];
+            }
+            for (int k = 1; k <= MAX_CLIMB && !this.isCollidable(x, y - 1 - k); k++) {
+                final int climb = this.getNode(nx, y - k);
+                if (climb != NONE) {
+                    targets[count++] = climb;
+                }
+            }
+            if (!this.isCollidable(nx, y) && !this.isCollidable(nx, y - 1)
+                    && this.nodes[y * this.width + nx] == NONE) {
+                final int drop = this.getNodeBelow(nx, y + 1);
+                if (drop != NONE) {
+                    targets[count++] = drop;
+                }
+            }
+        }
+        return count;
+    }
+
+    private boolean isStandable(final int x, final int y) {
+        return y + 1 < this.height && this.isCollidable(x, y + 1) && !this.isCollidable(x, y)
+                && !this.isCollidable(x, y - 1);
+    }
+
+    /*
+     * The cells above the grid are free, the ones on its sides are walls.
+     */
+    private boolean isCollidable(final int x, final int y) {
+        if (y < 0) {
+            return false;
+        }
+        return x < 0 || x >= this.width || y >= this.height || this.collidables.get(y * this.width + x);
+    }
+
+    private static int[] prefix(final int[] counts) {
+        final int[] starts = new int[counts.length + 1];
+        for (int i = 0; i < counts.length; i++) {
+            starts[i + 1] = starts[i] + counts[i];
+        }
+        return starts;
+    }
+}
@@ -1,34 +1,45 @@
 package model.map;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import model.map.tile.Tile;
-import model.map.tile.TileAir;
-import model.map.tile.TileMetal;
-import model.map.tile.TileStone;
+import model.map.tile.TileType;
 import util.Vector2D;
+import util.map.SegmentData;
 import util.map.TextMap;
 
 /**
  * 
  * Defines a Segment made up of Tiles.
+ * Only the TileType of every cell is kept, in a dense grid indexed by
+ * (y * width + x), so that every positional query is a plain array read and a
+ * cell takes a byte. Positional Tiles are created when someone asks for them.
  */
 public class Segment {
 
-    private final Set<Set<Tile>> map;
     private Vector2D playerSpawn;
     private final Collection<Vector2D> enemiesSpawn;
-    private final TextMap textMap;
+    private final Optional<TextMap> textMap;
     private final double offset;
+    private final int width;
+    private final int height;
+    /**
+     * Tile type ids, as the ordinal of their TileType.
+     */
+    private final byte[] grid;
+    private final BitSet collidables;
+    private NavGraph navigation;
 
     /**
      * 
@@ -37,79 +48,82 @@ public class Segment {
      * @throws IOException
      */
     public Segment(final TextMap textMap, final double offset) throws IOException {
+        this(Optional.of(textMap), textMap.toSegmentData(), offset);
+    }
+
+    /**
+     * Creates a Segment from its contents, read from any format.
+     * @param data
+     * @param offset
+     */
+    public Segment(final SegmentData data, final double offset) {
+        this(Optional.empty(), data, offset);
+    }
+
+    private Segment(final Optional<TextMap> textMap, final SegmentData data, final double offset) {
         this.enemiesSpawn = new LinkedList<>();
         this.offset = offset;
         this.textMap = textMap;
-        this.map = new HashSet<>();
-        final String path = textMap.getPath();
-        final BufferedReader mapTxtInput = new BufferedReader(new InputStreamReader(ClassLoader.getSystemResourceAsStream(path)));
-        for (int i = 0; i < textMap.getHeight(); i++) {
-            int j = 0;
-            while (j < textMap.getWidth()) {
-                final int check = mapTxtInput.read();
-                if (check == '0') {
-                    this.addTile(new TileAir(new Vector2D(j + offset, i)));
-                    j++;
-                } else if (check == '1') {
-                    this.addTile(new TileStone(new Vector2D(j + offset, i)));
-                    j++;
-                } else if (check == '2') {
-                    this.addTile(new TileMetal(new Vector2D(j + offset, i)));
-                    j++;
-                } else if (check == 'p') {
-                    this.addTile(new TileAir(new Vector2D(j + offset, i)));
-                    playerSpawn = new Vector2D(j + offset, i);
-                    j++;
-                } else if (check == 'e') {
-                    this.addTile(new TileAir(new Vector2D(j + offset, i)));
-                    enemiesSpawn.add(new Vector2D(j + offset, i));
-                    j++;
-                }
+        this.width = data.getWidth();
+        this.height = data.getHeight();
+        this.grid = new byte[this.width * this.height];
+        this.collidables = new BitSet(this.grid.length);
+        for (int i = 0; i < this.height; i++) {
+            for (int j = 0; j < this.width; j++) {
+                this.setType(i * this.width + j, TileType.of(data.getTile(j, i)));
             }
         }
-        mapTxtInput.close();
+        this.navigation = new NavGraph(this.width, this.height, this.collidables);
+        data.getPlayerSpawn().ifPresent(p -> this.playerSpawn = p.sum(offset, 0));
+        data.getEnemiesSpawn().forEach(e -> this.enemiesSpawn.add(e.sum(offset, 0)));
     }
 
     /**
-     * Adds a Collection of tiles to the Segment.
+     * Adds a Collection of tiles to the Segment, each one replacing the type of
+     * its cell. Tiles outside of the Segment are ignored.
      * @param bundle
      */
     public void addBundle(final Collection<Tile> bundle) {
         for (final var tile : bundle) {
             this.addTile(tile);
         }
+        this.navigation = new NavGraph(this.width, this.height, this.collidables);
     }
 
     /**
-     * Returns a Set of all Tiles of a specific Tile type in the Segment.
+     * Returns a Set of all Tiles of a specific Tile type in the Segment, created
+     * on every call: only the Tiles of that type are created.
      * @param tileClass
-     * @return all the Tiles of a specific Tile type in the Segment.
+     * @return all the Tiles of a specific Tile type in the Segment, if it has any.
      */
     public Optional<Set<Tile>> getTileSet(final Class<? extends Tile> tileClass) {
-        for (final var temp : map) {
-            if (temp.iterator().next().getClass() == tileClass) {
-                return Optional.of(temp);
+        final Optional<TileType> type = TileType.of(tileClass);
+        if (type.isEmpty()) {
+            return Optional.empty();
+        }
+        final byte id = (byte) type.get().ordinal();
+        final Set<Tile> tiles = new HashSet<>();
+        for (int i = 0; i < this.grid.length; i++) {
+            if (this.grid[i] == id) {
+                tiles.add(type.get().at(this.positionOf(i)));
             }
         }
-        return Optional.empty();
+        return tiles.isEmpty() ? Optional.empty() : Optional.of(tiles);
     }
 
     /**
-     * Returns a Set of Sets of Tiles, grouped up by columns and rows.
+     * Returns a Set of Sets of Tiles, grouped up by type, created on every call.
+     * It creates a Tile for every cell of the Segment, so it's meant for tests
+     * and debugging only: nothing calls it while the game runs.
      * @return a Collection of every Tile from the Level.
      */
     public Set<Set<Tile>> getMap() {
-        return this.map;
-    }
-
-    private Set<Tile> getAllTiles() {
-        final Set<Tile> output = new HashSet<>();
-        for (final var set : map) {
-            for (final var tile : set) {
-                output.add(tile);
-            }
+        final Map<TileType, Set<Tile>> map = new EnumMap<>(TileType.class);
+        for (int i = 0; i < this.grid.length; i++) {
+            final TileType type = TileType.of(this.grid[i]);
+            map.computeIfAbsent(type, t -> new HashSet<>()).add(type.at(this.positionOf(i)));
         }
-        return output;
+        return new HashSet<>(map.values());
     }
 
     /**
@@ -129,22 +143,31 @@ public class Segment {
     }
 
     private void addTile(final Tile tile) {
-        for (final var temp : map) {
-            if (temp.iterator().next().getClass() == tile.getClass()) {
-                temp.add(tile);
-                return;
-            }
+        final int index = this.indexOf(tile.getPosition().getX(), tile.getPosition().getY());
+        if (index >= 0) {
+            this.setType(index, tile.getType());
         }
-        final Set<Tile> set = new HashSet<>();
-        set.add(tile);
-        map.add(set);
+    }
+
+    private void setType(final int index, final TileType type) {
+        this.grid[index] = (byte) type.ordinal();
+        this.collidables.set(index, type.isCollidable());
+    }
+
+    /**
+     * Returns where a Character can stand in the Segment and how it can move
+     * between those places, built when the Segment is loaded.
+     * @return the Segment's navigation graph.
+     */
+    public NavGraph getNavigation() {
+        return this.navigation;
     }
 
     /**
      * The Segment's TextMap, a Character based representation of the Segment's contents.
-     * @return the Segment's TextMap.
+     * @return the Segment's TextMap, if the Segment was read from one.
      */
-    public TextMap getTextMap() {
+    public Optional<TextMap> getTextMap() {
         return this.textMap;
     }
 
@@ -153,8 +176,13 @@ public class Segment {
      * @return the Segment's tileable Tiles' positions.
      */
     public List<Vector2D> getTileables() {
-        return this.getAllTiles().stream().filter(t -> t.isTileable()).map(t -> t.getPosition())
-                .collect(Collectors.toList());
+        final List<Vector2D> output = new ArrayList<>();
+        for (int i = 0; i < this.grid.length; i++) {
+            if (TileType.of(this.grid[i]).isTileable()) {
+                output.add(this.positionOf(i));
+            }
+        }
+        return output;
     }
 
     /**
@@ -162,8 +190,11 @@ public class Segment {
      * @return the Segment's collidable Tiles' positions.
      */
     public List<Vector2D> getCollidables() {
-        return this.getAllTiles().stream().filter(t -> t.isCollidable()).map(t -> t.getPosition())
-                .collect(Collectors.toList());
+        final List<Vector2D> output = new ArrayList<>();
+        for (int i = this.collidables.nextSetBit(0); i >= 0; i = this.collidables.nextSetBit(i + 1)) {
+            output.add(this.positionOf(i));
+        }
+        return output;
     }
 
     /**
@@ -172,12 +203,18 @@ public class Segment {
      * @return the requested Tile's collidability.
      */
     public boolean isCollidableAtPosition(final Vector2D position) {
-        final var tmp = this.getAllTiles().stream().filter(t -> t.getPosition().getX() == Math.floor(position.getX()))
-                .filter(t -> t.getPosition().getY() == Math.floor(position.getY())).findFirst();
-        if (tmp.equals(Optional.empty())) {
-            return false;
-        }
-        return tmp.get().isCollidable();
+        return this.isCollidableAt(position.getX(), position.getY());
+    }
+
+    /**
+     * Checks if the Tile present at the given coordinates is collidable.
+     * @param x
+     * @param y
+     * @return the requested Tile's collidability.
+     */
+    public boolean isCollidableAt(final double x, final double y) {
+        final int index = this.indexOf(Math.floor(x), Math.floor(y));
+        return index >= 0 && this.collidables.get(index);
     }
 
     /**
@@ -186,9 +223,11 @@ public class Segment {
      * @return the collidable tile at given position.
      */
     public Optional<Tile> getCollidableAtPosition(final Vector2D position) {
-        return this.getAllTiles().stream().filter(t -> t.getPosition().getX() == Math.floor(position.getX()))
-                .filter(t -> t.getPosition().getY() == Math.floor(position.getY())).filter(t -> t.isCollidable())
-                .findFirst();
+        final int index = this.indexOf(Math.floor(position.getX()), Math.floor(position.getY()));
+        if (index < 0 || !this.collidables.get(index)) {
+            return Optional.empty();
+        }
+        return Optional.of(TileType.of(this.grid[index]).at(this.positionOf(index)));
     }
 
     /**
@@ -197,7 +236,8 @@ public class Segment {
      * @return the tile at given position.
      */
     public Optional<Tile> getTile(final Vector2D position) {
-        return this.getAllTiles().stream().filter(t -> t.getPosition().equals(position)).findFirst();
+        final int index = this.indexOf(position.getX(), position.getY());
+        return index < 0 ? Optional.empty() : Optional.of(TileType.of(this.grid[index]).at(this.positionOf(index)));
     }
 
     /**
@@ -215,17 +255,84 @@ public class Segment {
      * @return the Segment's left side's distance from the leftmost side of the Level.
      */
     public Vector2D getOrigin() {
-        return new Vector2D(this.offset, textMap.getHeight());
+        return new Vector2D(this.offset, this.height);
+    }
+
+    /**
+     * Returns the Segment's left side's distance from the leftmost side of the Level, as a scalar.
+     * @return the Segment's offset.
+     */
+    public double getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Returns the Segment's width, in Tiles.
+     * @return the Segment's width.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the Segment's height, in Tiles.
+     * @return the Segment's height.
+     */
+    public int getHeight() {
+        return this.height;
     }
 
     /**
      * Returns a Tile's position simplified to the TextMap's Tile's position.
      * @param position
      * @return a Tile's position on the TextMap.
+     * @throws NoSuchElementException if the position is outside of the Segment.
      */
     public Vector2D getTilePos(final Vector2D position) {
-        return this.getAllTiles().stream().filter(t -> t.getPosition().getX() == Math.floor(position.getX()))
-                .filter(t -> t.getPosition().getY() == Math.floor(position.getY())).map(t -> t.getPosition())
-                .findFirst().get();
+        final int index = this.indexOf(Math.floor(position.getX()), Math.floor(position.getY()));
+        if (index < 0) {
+            throw new NoSuchElementException();
+        }
+        return this.positionOf(index);
+    }
+
+    /**
+     * Returns the type id of the Tile at the given grid cell, relative to the Segment's origin.
+     * @param x
+     * @param y
+     * @return the Tile's type id.
+     */
+    public byte getTileTypeAt(final int x, final int y) {
+        return this.grid[y * this.width + x];
+    }
+
+    /**
+     * Returns the type of the Tile at the given grid cell, relative to the Segment's origin.
+     * @param x
+     * @param y
+     * @return the Tile's type.
+     */
+    public TileType getTileType(final int x, final int y) {
+        return TileType.of(this.getTileTypeAt(x, y));
+    }
+
+    /**
+     * Converts an index of the grid into the Level coordinates of its cell.
+     */
+    private Vector2D positionOf(final int index) {
+        return new Vector2D(index % this.width + this.offset, index / this.width);
+    }
+
+    /**
+     * Converts Level coordinates into an index of the grid.
+     * @return the index, or -1 if the coordinates are not on an integer cell of the Segment.
+     */
+    private int indexOf(final double x, final double y) {
+        final double localX = x - this.offset;
+        if (localX < 0 || localX >= this.width || y < 0 || y >= this.height
+                || localX != Math.floor(localX) || y != Math.floor(y)) {
+            return -1;
+        }
+        return (int) y * this.width + (int) localX;
     }
 }
@@ -4,21 +4,21 @@ import java.util.Objects;
 
 import util.Vector2D;
 /**
- *
+ * A Tile at a position, whose attributes are the ones of its shared TileType.
  */
 public abstract class AbstractTile implements Tile {
 
-    private final String path;
+    private final TileType type;
     private final Vector2D position;
 
     /**
      * 
      * @param position
-     * @param path
+     * @param type
      */
-    public AbstractTile(final Vector2D position, final String path) {
+    public AbstractTile(final Vector2D position, final TileType type) {
         this.position = position;
-        this.path = path;
+        this.type = type;
     }
 /**
  * Returns the tile's position.
@@ -32,16 +32,27 @@ public abstract class AbstractTile implements Tile {
      * @return position
      */
     public String getPath() {
-       return this.path;
+       return this.type.getPath();
+    }
+    /**
+     * Returns the tile's type.
+     * @return type
+     */
+    public TileType getType() {
+        return this.type;
     }
     /**
      * @return boolean
      */
-    public abstract boolean isCollidable();
+    public boolean isCollidable() {
+        return this.type.isCollidable();
+    }
     /**
     * @return boolean
     */
-    public abstract boolean isTileable();
+    public boolean isTileable() {
+        return this.type.isTileable();
+    }
     @Override
     public String toString() {
         return this.position + " - Is collidable: " + isCollidable(); 
@@ -49,7 +60,7 @@ public abstract class AbstractTile implements Tile {
 
     @Override
     public int hashCode() {
-        return Objects.hash(path, position);
+        return Objects.hash(type, position);
     }
     @Override
     public boolean equals(final Object obj) {
@@ -63,6 +74,6 @@ public abstract class AbstractTile implements Tile {
             return false;
         }
         final AbstractTile other = (AbstractTile) obj;
-        return Objects.equals(path, other.path) && Objects.equals(position, other.position);
+        return type == other.type && Objects.equals(position, other.position);
     }
 }
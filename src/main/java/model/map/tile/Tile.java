@@ -25,4 +25,9 @@ public interface Tile {
      */
     String getPath();
 
+    /**
+     * @return the Tile's type, shared by every Tile of its kind.
+     */
+    TileType getType();
+
 }
@@ -8,16 +8,6 @@ import util.Vector2D;
 public class TileAir extends AbstractTile {
 	
 	public TileAir(final Vector2D position) {
-        super(position, "tileSet/Air.png");
+        super(position, TileType.AIR);
 	}
-
-    @Override
-    public boolean isCollidable() {
-        return false;
-    }
-
-    @Override
-    public boolean isTileable() {
-        return false;
-    }
 }
@@ -11,17 +11,7 @@ public class TileMetal extends AbstractTile {
      * @param position
      */
     public TileMetal(final Vector2D position) {
-        super(position, "tileSet/MetalTilesetCompact.png");
-    }
-
-    @Override
-    public boolean isCollidable() {
-        return true;
-    }
-
-    @Override
-    public boolean isTileable() {
-        return true;
+        super(position, TileType.METAL);
     }
 
 }
@@ -12,16 +12,6 @@ public class TileStone extends AbstractTile {
      * @param position
      */
     public TileStone(final Vector2D position) {
-        super(position, "tileSet/DesertTilesetCompact.png");
-    }
-
-    @Override
-    public boolean isCollidable() {
-        return true;
-    }
-
-    @Override
-    public boolean isTileable() {
-        return true;
+        super(position, TileType.STONE);
     }
 }
@@ -0,0 +1,102 @@
+package model.map.tile;
+
+import java.util.Optional;
+
+import util.Vector2D;
+import util.map.SegmentData;
+
+/**
+ * 
+ * The kinds of Tile, shared by every cell of that kind: a Segment only keeps
+ * the type of each cell, and a positional Tile is created only when someone
+ * asks for it. The ordinal of a type is its id in {@link SegmentData}.
+ */
+public enum TileType {
+    /**
+     * Empty space, see {@link SegmentData#AIR}.
+     */
+    AIR(false, false, "tileSet/Air.png", TileAir.class),
+    /**
+     * Desert ground, see {@link SegmentData#STONE}.
+     */
+    STONE(true, true, "tileSet/DesertTilesetCompact.png", TileStone.class),
+    /**
+     * Metal ground, see {@link SegmentData#METAL}.
+     */
+    METAL(true, true, "tileSet/MetalTilesetCompact.png", TileMetal.class);
+
+    private static final TileType[] TYPES = values();
+
+    private final boolean collidable;
+    private final boolean tileable;
+    private final String path;
+    private final Class<? extends Tile> tileClass;
+
+    TileType(final boolean collidable, final boolean tileable, final String path,
+            final Class<? extends Tile> tileClass) {
+        this.collidable = collidable;
+        this.tileable = tileable;
+        this.path = path;
+        this.tileClass = tileClass;
+    }
+
+    /**
+     * Returns the type with the given id, unknown ids are air.
+     * @param id
+     * @return the type.
+     */
+    public static TileType of(final byte id) {
+        return id >= 0 && id < TYPES.length ? TYPES[id] : AIR;
+    }
+
+    /**
+     * @return the collidability of the Tiles of this type.
+     */
+    public boolean isCollidable() {
+        return this.collidable;
+    }
+
+    /**
+     * @return the tileability of the Tiles of this type.
+     */
+    public boolean isTileable() {
+        return this.tileable;
+    }
+
+    /**
+     * Returns the type whose Tiles are of the given class.
+     * @param tileClass
+     * @return the type, if there is one.
+     */
+    public static Optional<TileType> of(final Class<? extends Tile> tileClass) {
+        for (final TileType type : TYPES) {
+            if (type.tileClass == tileClass) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the image path of the Tiles of this type.
+     */
+    public String getPath() {
+        return this.path;
+    }
+
+    /**
+     * Creates a Tile of this type at the given position.
+     * @param position
+     * @return the Tile.
+     */
+    public Tile at(final Vector2D position) {
+        switch (this) {
+        case STONE:
+            return new TileStone(position);
+        case METAL:
+            return new TileMetal(position);
+        default:
+            return new TileAir(position);
+        }
+    }
+}
@@ -4,10 +4,11 @@ import util.Vector2D;
 import util.direction.DirectionHorizontal;
 import util.direction.DirectionVertical;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import model.Entity;
 import model.character.Character;
+import model.character.movableentity.EntityConstants;
 import model.character.tools.Aim;
 
 /**
@@ -18,8 +19,18 @@ import model.character.tools.Aim;
  */
 public class Bullet extends Entity {
 
-    private static final double DEFAULT_SPEED = 0.3;
-    private static final double DEFAULT_HITBOX_SIZE = 0.1;
+    /**
+     * Space traveled in a second by every bullet.
+     */
+    static final double SPEED = 18;
+    /**
+     * Space traveled in a tick's time by every bullet.
+     */
+    static final double DEFAULT_SPEED = SPEED / EntityConstants.TPS;
+    /**
+     * Width and height of every bullet's hitbox.
+     */
+    static final double DEFAULT_HITBOX_SIZE = 0.1;
     private static final int ANGLE_RIGHT = 0;
     private static final int ANGLE_UP = 90;
     private static final int ANGLE_LEFT = 180;
@@ -66,8 +77,9 @@ public class Bullet extends Entity {
      * calculated by the weapon's accuracy.
      * 
      * @param owner
+     * @param random where the accuracy of the shot is drawn from
      */
-    public Bullet(final Character owner) {
+    public Bullet(final Character owner, final SplittableRandom random) {
         super(new Vector2D(owner.getPosition().getX() + owner.getHitbox().getX() / 2,
                 owner.getPosition().getY() + owner.getHitbox().getY() / 2),
                 new Vector2D(DEFAULT_HITBOX_SIZE, DEFAULT_HITBOX_SIZE));
@@ -77,22 +89,57 @@ public class Bullet extends Entity {
         this.hit = false;
         this.damage = owner.getWeapon().getDamagePerBullet();
 
-        final var r = new Random();
+        final double angle = getShotAngle(owner, random.nextDouble());
+        this.sin = Math.sin(Math.toRadians(angle));
+        this.cos = Math.cos(Math.toRadians(angle));
+    }
+
+    /**
+     * Creates a bullet with the given state, used by BulletPool to expose its
+     * bullets as objects.
+     * 
+     * @param owner
+     * @param x
+     * @param y
+     * @param cos
+     * @param sin
+     * @param damage
+     */
+    Bullet(final Character owner, final double x, final double y, final double cos, final double sin,
+            final int damage) {
+        super(new Vector2D(x, y), new Vector2D(DEFAULT_HITBOX_SIZE, DEFAULT_HITBOX_SIZE));
+        this.owner = owner;
+        this.aim = owner.getAim();
+        this.speed = DEFAULT_SPEED;
+        this.hit = false;
+        this.damage = damage;
+        this.cos = cos;
+        this.sin = sin;
+    }
+
+    /**
+     * Calculates the angle (in degrees) of a bullet shot by owner, based on its aim
+     * and on its weapon's accuracy.
+     * 
+     * @param owner
+     * @param random a random value between 0 and 1
+     * @return the angle of the shot
+     */
+    static double getShotAngle(final Character owner, final double random) {
+        final Aim aim = owner.getAim();
         final double angleInterval = 1 / ((owner.getWeapon().getAccuracy()));
-        double angle = ACCURACY_AMPLIFIER * angleInterval * (r.nextDouble() - 0.5);
+        double angle = ACCURACY_AMPLIFIER * angleInterval * (random - 0.5);
 
-        if (this.aim.getDirection().getY().equals(DirectionVertical.UP)) {
+        if (aim.getDirection().getY().equals(DirectionVertical.UP)) {
             angle += ANGLE_UP;
-        } else if (this.aim.getDirection().getY().equals(DirectionVertical.DOWN)) {
+        } else if (aim.getDirection().getY().equals(DirectionVertical.DOWN)) {
             angle += ANGLE_DOWN;
-        } else if (this.aim.getDirection().getX().equals(DirectionHorizontal.LEFT)) {
+        } else if (aim.getDirection().getX().equals(DirectionHorizontal.LEFT)) {
             angle += ANGLE_LEFT;
-        } else if (this.aim.getDirection().getX().equals(DirectionHorizontal.RIGHT)) {
+        } else if (aim.getDirection().getX().equals(DirectionHorizontal.RIGHT)) {
             angle += ANGLE_RIGHT;
         }
-
-        this.sin = Math.sin(Math.toRadians(angle));
-        this.cos = Math.cos(Math.toRadians(angle));
+        return angle;
     }
 
     /**
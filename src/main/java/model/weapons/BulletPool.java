@@ -0,0 +1,223 @@
+package model.weapons;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import model.character.Character;
+
+/**
+ * BulletPool stores every bullet in game as a row of parallel primitive arrays
+ * (position, direction, damage and owner), so that shooting and ticking don't
+ * allocate any object. Bullets are addressed by their index, which is valid
+ * until the next removal: a removed bullet is replaced by the last one.
+ * 
+ */
+public class BulletPool {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] cos = new double[INITIAL_CAPACITY];
+    private double[] sin = new double[INITIAL_CAPACITY];
+    private int[] damage = new int[INITIAL_CAPACITY];
+    private Character[] owners = new Character[INITIAL_CAPACITY];
+    private int size;
+    private final SplittableRandom random;
+    private final Collection<Bullet> view = new AbstractCollection<>() {
+
+        @Override
+        public Iterator<Bullet> iterator() {
+            return new Iterator<>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return this.next < size;
+                }
+
+                @Override
+                public Bullet next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final int i = this.next++;
+                    return new Bullet(owners[i], x[i], y[i], cos[i], sin[i], damage[i]);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    };
+
+    /**
+     * Creates an empty pool with a random seed.
+     */
+    public BulletPool() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates an empty pool.
+     * 
+     * @param random - where the accuracy of the shots is drawn from
+     */
+    public BulletPool(final SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Adds a bullet based on owner's position, weapon and aim, adding an angle
+     * calculated by the weapon's accuracy.
+     * 
+     * @param owner - The Character who shots
+     */
+    public void add(final Character owner) {
+        if (this.size == this.x.length) {
+            this.grow();
+        }
+        final double angle = Math.toRadians(Bullet.getShotAngle(owner, this.random.nextDouble()));
+        this.x[this.size] = owner.getPosition().getX() + owner.getHitbox().getX() / 2;
+        this.y[this.size] = owner.getPosition().getY() + owner.getHitbox().getY() / 2;
+        this.cos[this.size] = Math.cos(angle);
+        this.sin[this.size] = Math.sin(angle);
+        this.damage[this.size] = owner.getWeapon().getDamagePerBullet();
+        this.owners[this.size] = owner;
+        this.size++;
+    }
+
+    /**
+     * Moves the bullet forward.
+     * 
+     * @param index
+     */
+    public void tick(final int index) {
+        this.x[index] += this.getStepX(index);
+        this.y[index] += this.getStepY(index);
+    }
+
+    /**
+     * @param index
+     * @return the bullet's horizontal movement in a tick
+     */
+    public double getStepX(final int index) {
+        return Bullet.DEFAULT_SPEED * this.cos[index];
+    }
+
+    /**
+     * @param index
+     * @return the bullet's vertical movement in a tick
+     */
+    public double getStepY(final int index) {
+        return -Bullet.DEFAULT_SPEED * this.sin[index];
+    }
+
+    /**
+     * Removes a bullet, moving the last bullet in its place.
+     * 
+     * @param index
+     */
+    public void remove(final int index) {
+        this.size--;
+        this.x[index] = this.x[this.size];
+        this.y[index] = this.y[this.size];
+        this.cos[index] = this.cos[this.size];
+        this.sin[index] = this.sin[this.size];
+        this.damage[index] = this.damage[this.size];
+        this.owners[index] = this.owners[this.size];
+        this.owners[this.size] = null;
+    }
+
+    /**
+     * Removes every bullet.
+     */
+    public void clear() {
+        Arrays.fill(this.owners, 0, this.size, null);
+        this.size = 0;
+    }
+
+    /**
+     * @return the amount of bullets in the pool
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param index
+     * @return the bullet's horizontal position
+     */
+    public double getX(final int index) {
+        return this.x[index];
+    }
+
+    /**
+     * @param index
+     * @return the bullet's vertical position
+     */
+    public double getY(final int index) {
+        return this.y[index];
+    }
+
+    /**
+     * Sets the bullet's position.
+     * 
+     * @param index
+     * @param x
+     * @param y
+     */
+    public void setPosition(final int index, final double x, final double y) {
+        this.x[index] = x;
+        this.y[index] = y;
+    }
+
+    /**
+     * @param index
+     * @return the bullet's damage
+     */
+    public int getDamage(final int index) {
+        return this.damage[index];
+    }
+
+    /**
+     * @param index
+     * @return the bullet's owner
+     */
+    public Character getOwner(final int index) {
+        return this.owners[index];
+    }
+
+    /**
+     * @return the width and height of every bullet's hitbox
+     */
+    public double getHitboxSize() {
+        return Bullet.DEFAULT_HITBOX_SIZE;
+    }
+
+    /**
+     * Returns a read-only view of the pool. Every iteration creates a snapshot
+     * Bullet for each element, so it's not meant for the game loop.
+     * 
+     * @return the bullets as a Collection
+     */
+    public Collection<Bullet> asCollection() {
+        return this.view;
+    }
+
+    private void grow() {
+        final int capacity = this.x.length * 2;
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.cos = Arrays.copyOf(this.cos, capacity);
+        this.sin = Arrays.copyOf(this.sin, capacity);
+        this.damage = Arrays.copyOf(this.damage, capacity);
+        this.owners = Arrays.copyOf(this.owners, capacity);
+    }
+}
@@ -0,0 +1,112 @@
+package util;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of non-negative long values, like the durations of a tick in
+ * nanoseconds, with a fixed relative precision. The values below 128 have a
+ * bucket each; above, every power of two is split in 64 buckets, so a value is
+ * known within 1/64 of itself, whatever its magnitude. Recording a value
+ * doesn't allocate and takes a few instructions, and the whole range of longs
+ * fits in less than 4000 buckets.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF = SUB_BUCKETS / 2;
+    private static final int BUCKETS = SUB_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS) * HALF;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records a value.
+     *
+     * @param value the value, negative values are recorded as 0
+     */
+    public void record(final long value) {
+        final long v = Math.max(0, value);
+        this.counts[index(v)]++;
+        this.count++;
+        this.total += v;
+        if (v > this.max) {
+            this.max = v;
+        }
+    }
+
+    /**
+     * Forgets every recorded value.
+     */
+    public void reset() {
+        Arrays.fill(this.counts, 0);
+        this.count = 0;
+        this.total = 0;
+        this.max = 0;
+    }
+
+    /**
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     *
+     * @return the largest recorded value, 0 if there are none
+     */
+    public long getMax() {
+        return this.max;
+    }
+
+    /**
+     *
+     * @return the mean of the recorded values, 0 if there are none
+     */
+    public double getMean() {
+        return this.count == 0 ? 0 : (double) this.total / this.count;
+    }
+
+    /**
+     * Returns a value that is greater than or equal to the given fraction of
+     * the recorded values, within the precision of the histogram.
+     *
+     * @param percentile the fraction of the values, from 0 to 1
+     * @return the value, 0 if there are none
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile out of range: " + percentile);
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile * this.count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts[i];
+            if (seen >= rank && this.counts[i] > 0) {
+                return Math.min(highestValue(i), this.max);
+            }
+        }
+        return 0;
+    }
+
+    private static int index(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + (shift - 1) * HALF + (int) (value >>> shift) - HALF;
+    }
+
+    private static long highestValue(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKETS) / HALF + 1;
+        final long lowest = (long) ((index - SUB_BUCKETS) % HALF + HALF) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
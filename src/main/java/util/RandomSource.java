@@ -0,0 +1,39 @@
+package util;
+
+import java.util.SplittableRandom;
+
+/**
+ * The source of every random value of a match. Whatever needs random values
+ * gets its own stream, split from a single generator in the order they are
+ * asked for: the same seed always gives the same streams, so a match can be
+ * played again from its seed, whichever thread draws the values.
+ */
+public class RandomSource {
+
+    private final SplittableRandom root;
+
+    /**
+     * Creates a source with a random seed.
+     */
+    public RandomSource() {
+        this.root = new SplittableRandom();
+    }
+
+    /**
+     *
+     * @param seed the seed of every stream
+     */
+    public RandomSource(final long seed) {
+        this.root = new SplittableRandom(seed);
+    }
+
+    /**
+     * Returns a new stream of random values, independent from the others. It's
+     * not thread-safe, so it's meant to be used by a single entity.
+     *
+     * @return the new stream
+     */
+    public synchronized SplittableRandom split() {
+        return this.root.split();
+    }
+}
@@ -80,6 +80,18 @@ public class Vector2D {
         this.y = y;
     }
 
+    /**
+     * Sets both components, so that the vector can be reused instead of
+     * creating a new one.
+     * 
+     * @param x component
+     * @param y component
+     */
+    public void set(final double x, final double y) {
+        this.x = x;
+        this.y = y;
+    }
+
     /**
      * Sums two vectors.
      * 
@@ -141,6 +153,17 @@ public class Vector2D {
         this.y += vec.getY();
     }
 
+    /**
+     * Adds the given components to the current vector.
+     * 
+     * @param x to be added to the horizontal component
+     * @param y to be added to the vertical component
+     */
+    public void add(final double x, final double y) {
+        this.x += x;
+        this.y += y;
+    }
+
     /**
      * Multiplies the current vector with the scalar value.
      * 
@@ -0,0 +1,161 @@
+package util.map;
+
+import java.util.BitSet;
+
+/**
+ * Computes how a Tile merges with the Tiles around it. The eight neighbours of
+ * a Tile are packed in a mask, one bit each; the mask selects the eight layers
+ * of the autotile sheet that, drawn one over the other, make up the Tile.
+ */
+public final class AutotileMask {
+
+    /**
+     * The neighbour above.
+     */
+    public static final int TOP = 1;
+    /**
+     * The neighbour to the right.
+     */
+    public static final int RIGHT = 1 << 1;
+    /**
+     * The neighbour below.
+     */
+    public static final int BOTTOM = 1 << 2;
+    /**
+     * The neighbour to the left.
+     */
+    public static final int LEFT = 1 << 3;
+    /**
+     * The neighbour above on the left.
+     */
+    public static final int TOP_LEFT = 1 << 4;
+    /**
+     * The neighbour above on the right.
+     */
+    public static final int TOP_RIGHT = 1 << 5;
+    /**
+     * The neighbour below on the right.
+     */
+    public static final int BOTTOM_RIGHT = 1 << 6;
+    /**
+     * The neighbour below on the left.
+     */
+    public static final int BOTTOM_LEFT = 1 << 7;
+    /**
+     * How many masks there are, canonical or not.
+     */
+    public static final int MASKS = 1 << 8;
+    /**
+     * How many layers make up a Tile.
+     */
+    public static final int LAYERS = 8;
+    /**
+     * Columns of the autotile sheet, in Tiles.
+     */
+    public static final int SHEET_COLUMNS = 6;
+    /**
+     * Rows of the autotile sheet, in Tiles.
+     */
+    public static final int SHEET_ROWS = 4;
+
+    /*
+     * The sheet cell of the inner corner layer, drawn when the corner is not
+     * an inner one: it's a transparent cell.
+     */
+    private static final int EMPTY_CORNER = cell(4, 2);
+
+    private AutotileMask() { }
+
+    /**
+     * Computes the mask of the cell at the given coordinates.
+     *
+     * @param occupied the occupied cells, row by row
+     * @param width    the width of the grid
+     * @param height   the height of the grid
+     * @param x
+     * @param y
+     * @return the mask of the neighbours of the cell
+     */
+    public static int of(final BitSet occupied, final int width, final int height, final int x, final int y) {
+        int mask = 0;
+        mask |= isOccupied(occupied, width, height, x, y - 1) ? TOP : 0;
+        mask |= isOccupied(occupied, width, height, x + 1, y) ? RIGHT : 0;
+        mask |= isOccupied(occupied, width, height, x, y + 1) ? BOTTOM : 0;
+        mask |= isOccupied(occupied, width, height, x - 1, y) ? LEFT : 0;
+        mask |= isOccupied(occupied, width, height, x - 1, y - 1) ? TOP_LEFT : 0;
+        mask |= isOccupied(occupied, width, height, x + 1, y - 1) ? TOP_RIGHT : 0;
+        mask |= isOccupied(occupied, width, height, x + 1, y + 1) ? BOTTOM_RIGHT : 0;
+        mask |= isOccupied(occupied, width, height, x - 1, y + 1) ? BOTTOM_LEFT : 0;
+        return mask;
+    }
+
+    /**
+     * Drops the diagonal neighbours that don't change how the Tile looks: a
+     * corner matters only when both the sides next to it are occupied. Masks
+     * that look the same have the same canonical mask, and there are 47 of them.
+     *
+     * @param mask
+     * @return the canonical mask
+     */
+    public static int canonical(final int mask) {
+        int canonical = mask & (TOP | RIGHT | BOTTOM | LEFT);
+        canonical |= corner(mask, TOP_LEFT, TOP, LEFT);
+        canonical |= corner(mask, TOP_RIGHT, TOP, RIGHT);
+        canonical |= corner(mask, BOTTOM_RIGHT, BOTTOM, RIGHT);
+        canonical |= corner(mask, BOTTOM_LEFT, BOTTOM, LEFT);
+        return canonical;
+    }
+
+    /**
+     * Returns the sheet cells of the layers of a Tile, in drawing order: the
+     * top-left, top-right, bottom-right and bottom-left edges, then the
+     * top-left, top-right, bottom-right and bottom-left inner corners. A cell
+     * is encoded as row * {@link #SHEET_COLUMNS} + column.
+     *
+     * @param mask
+     * @return the cells of the layers
+     */
+    public static int[] layers(final int mask) {
+        final boolean top = (mask & TOP) != 0;
+        final boolean right = (mask & RIGHT) != 0;
+        final boolean bottom = (mask & BOTTOM) != 0;
+        final boolean left = (mask & LEFT) != 0;
+        return new int[] {
+            edge(left, top, cell(0, 0), cell(3, 0), cell(4, 1), cell(3, 3)),
+            edge(right, top, cell(1, 0), cell(2, 0), cell(5, 1), cell(2, 3)),
+            edge(right, bottom, cell(1, 1), cell(2, 1), cell(5, 0), cell(2, 2)),
+            edge(left, bottom, cell(0, 1), cell(3, 1), cell(4, 0), cell(3, 2)),
+            innerCorner(mask, TOP_LEFT, TOP, LEFT, cell(1, 3)),
+            innerCorner(mask, TOP_RIGHT, TOP, RIGHT, cell(0, 3)),
+            innerCorner(mask, BOTTOM_RIGHT, BOTTOM, RIGHT, cell(0, 2)),
+            innerCorner(mask, BOTTOM_LEFT, BOTTOM, LEFT, cell(1, 2)),
+        };
+    }
+
+    private static boolean isOccupied(final BitSet occupied, final int width, final int height, final int x,
+            final int y) {
+        return x >= 0 && x < width && y >= 0 && y < height && occupied.get(y * width + x);
+    }
+
+    private static int corner(final int mask, final int corner, final int vertical, final int horizontal) {
+        return (mask & (vertical | horizontal)) == (vertical | horizontal) ? mask & corner : 0;
+    }
+
+    private static int edge(final boolean horizontal, final boolean vertical, final int none,
+            final int horizontalOnly, final int verticalOnly, final int both) {
+        if (horizontal) {
+            return vertical ? both : horizontalOnly;
+        }
+        return vertical ? verticalOnly : none;
+    }
+
+    private static int innerCorner(final int mask, final int corner, final int vertical, final int horizontal,
+            final int cell) {
+        final int sides = vertical | horizontal;
+        return (mask & sides) == sides && (mask & corner) == 0 ? cell : EMPTY_CORNER;
+    }
+
+    private static int cell(final int column, final int row) {
+        return row * SHEET_COLUMNS + column;
+    }
+}
@@ -0,0 +1,204 @@
+package util.map;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import util.Vector2D;
+
+/**
+ * The compiled form of a text map. All numbers are big endian:
+ * <ul>
+ * <li>the magic number "MSSG" and the format version, one byte;</li>
+ * <li>the bits used by every Tile id, one byte (1, 2, 4 or 8);</li>
+ * <li>width and height, unsigned shorts;</li>
+ * <li>the player's spawn as two shorts, -1 -1 if there is none;</li>
+ * <li>the number of enemies' spawns, an unsigned short, followed by their
+ * coordinates as pairs of shorts;</li>
+ * <li>the Tile ids, row by row, packed from the most significant bits of
+ * every byte.</li>
+ * </ul>
+ */
+public final class BinaryMap {
+
+    /**
+     * The extension of compiled maps.
+     */
+    public static final String EXTENSION = ".bin";
+
+    private static final String TEXT_EXTENSION = ".txt";
+    private static final int MAGIC = 0x4D535347;
+    private static final byte VERSION = 1;
+    private static final int BYTE_BITS = 8;
+    private static final int UNSIGNED_SHORT = 0xFFFF;
+
+    private BinaryMap() { }
+
+    /**
+     * Returns where the compiled version of a text map is. The path of a
+     * compiled map is returned as it is.
+     *
+     * @param textPath the path of the text map
+     * @return the path of the compiled map
+     */
+    public static String compiledPath(final String textPath) {
+        if (textPath.endsWith(EXTENSION)) {
+            return textPath;
+        }
+        final String base = textPath.endsWith(TEXT_EXTENSION)
+                ? textPath.substring(0, textPath.length() - TEXT_EXTENSION.length())
+                : textPath;
+        return base + EXTENSION;
+    }
+
+    /**
+     * Loads a compiled map from the classpath. If the map is a file it is
+     * memory mapped, otherwise (in a jar) it is read with a single bulk read.
+     *
+     * @param path the path of the compiled map in the classpath
+     * @return the contents of the Segment
+     * @throws IOException if the map can't be read or it is not a valid map
+     */
+    public static SegmentData load(final String path) throws IOException {
+        final URL url = ClassLoader.getSystemResource(path);
+        if (url == null) {
+            throw new FileNotFoundException(path);
+        }
+        if ("file".equals(url.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+                return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        try (InputStream input = url.openStream()) {
+            return read(ByteBuffer.wrap(input.readAllBytes()));
+        }
+    }
+
+    /**
+     * Reads a compiled map.
+     *
+     * @param buffer the compiled map
+     * @return the contents of the Segment
+     * @throws IOException if the buffer doesn't hold a valid map
+     */
+    public static SegmentData read(final ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+                throw new IOException("Not a compiled map");
+            }
+            final int bits = buffer.get();
+            if (bits <= 0 || BYTE_BITS % bits != 0) {
+                throw new IOException("Invalid tile size: " + bits);
+            }
+            final int width = buffer.getShort() & UNSIGNED_SHORT;
+            final int height = buffer.getShort() & UNSIGNED_SHORT;
+            final short playerX = buffer.getShort();
+            final short playerY = buffer.getShort();
+            final Optional<Vector2D> playerSpawn = playerX < 0 ? Optional.empty()
+                    : Optional.of(new Vector2D(playerX, playerY));
+            final int enemies = buffer.getShort() & UNSIGNED_SHORT;
+            final List<Vector2D> enemiesSpawn = new ArrayList<>(enemies);
+            for (int i = 0; i < enemies; i++) {
+                enemiesSpawn.add(new Vector2D(buffer.getShort(), buffer.getShort()));
+            }
+            final byte[] packed = new byte[packedLength(width * height, bits)];
+            buffer.get(packed);
+            return new SegmentData(width, height, unpack(packed, width * height, bits), playerSpawn, enemiesSpawn);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated compiled map", e);
+        }
+    }
+
+    /**
+     * Writes a compiled map.
+     *
+     * @param data   the contents of the Segment
+     * @param output where to write it
+     * @throws IOException if the output can't be written
+     */
+    public static void write(final SegmentData data, final OutputStream output) throws IOException {
+        final DataOutputStream out = new DataOutputStream(output);
+        final byte[] tiles = new byte[data.getWidth() * data.getHeight()];
+        int maxId = 0;
+        for (int y = 0; y < data.getHeight(); y++) {
+            for (int x = 0; x < data.getWidth(); x++) {
+                tiles[y * data.getWidth() + x] = data.getTile(x, y);
+                maxId = Math.max(maxId, data.getTile(x, y) & 0xFF);
+            }
+        }
+        int bits = 1;
+        while (maxId >= 1 << bits) {
+            bits *= 2;
+        }
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(bits);
+        out.writeShort(data.getWidth());
+        out.writeShort(data.getHeight());
+        out.writeShort(data.getPlayerSpawn().map(p -> (int) p.getX()).orElse(-1));
+        out.writeShort(data.getPlayerSpawn().map(p -> (int) p.getY()).orElse(-1));
+        out.writeShort(data.getEnemiesSpawn().size());
+        for (final Vector2D spawn : data.getEnemiesSpawn()) {
+            out.writeShort((int) spawn.getX());
+            out.writeShort((int) spawn.getY());
+        }
+        out.write(pack(tiles, bits));
+        out.flush();
+    }
+
+    /**
+     * Compiles a Segment in memory.
+     *
+     * @param data the contents of the Segment
+     * @return the compiled map
+     */
+    public static byte[] toBytes(final SegmentData data) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            write(data, output);
+        } catch (IOException e) {
+            // a ByteArrayOutputStream never fails
+            throw new IllegalStateException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static int packedLength(final int tiles, final int bits) {
+        return (tiles * bits + BYTE_BITS - 1) / BYTE_BITS;
+    }
+
+    private static byte[] pack(final byte[] tiles, final int bits) {
+        final byte[] packed = new byte[packedLength(tiles.length, bits)];
+        final int perByte = BYTE_BITS / bits;
+        for (int i = 0; i < tiles.length; i++) {
+            final int shift = BYTE_BITS - bits * (i % perByte + 1);
+            packed[i / perByte] |= (tiles[i] & ((1 << bits) - 1)) << shift;
+        }
+        return packed;
+    }
+
+    private static byte[] unpack(final byte[] packed, final int length, final int bits) {
+        final byte[] tiles = new byte[length];
+        final int perByte = BYTE_BITS / bits;
+        for (int i = 0; i < length; i++) {
+            final int shift = BYTE_BITS - bits * (i % perByte + 1);
+            tiles[i] = (byte) ((packed[i / perByte] >> shift) & ((1 << bits) - 1));
+        }
+        return tiles;
+    }
+}
@@ -0,0 +1,44 @@
+package util.map;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compiles every text map of a directory into a {@link BinaryMap}, with the
+ * same name and the ".bin" extension. It is run by the "compileLevels" gradle
+ * task.
+ */
+public final class LevelCompiler {
+
+    private LevelCompiler() {
+        // the constructor will never be called directly.
+    }
+
+    /**
+     * Main method.
+     *
+     * @param args the directory with the text maps and the output directory
+     * @throws IOException if a map can't be read or written
+     */
+    public static void main(final String... args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: LevelCompiler <text maps directory> <output directory>");
+        }
+        final Path input = Path.of(args[0]);
+        final Path output = Path.of(args[1]);
+        Files.createDirectories(output);
+        try (DirectoryStream<Path> maps = Files.newDirectoryStream(input, "*.txt")) {
+            for (final Path map : maps) {
+                final SegmentData data = SegmentData.fromText(Files.readAllLines(map, StandardCharsets.UTF_8));
+                final Path compiled = output.resolve(BinaryMap.compiledPath(map.getFileName().toString()));
+                try (OutputStream out = Files.newOutputStream(compiled)) {
+                    BinaryMap.write(data, out);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package util.map;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import util.Vector2D;
+
+/**
+ * The contents of a Segment, whatever format they were read from: the id of
+ * the Tile in every cell, row by row, and the spawn positions, relative to the
+ * Segment's origin.
+ */
+public final class SegmentData {
+
+    /**
+     * Id of an air Tile.
+     */
+    public static final byte AIR = 0;
+    /**
+     * Id of a stone Tile.
+     */
+    public static final byte STONE = 1;
+    /**
+     * Id of a metal Tile.
+     */
+    public static final byte METAL = 2;
+
+    private final int width;
+    private final int height;
+    private final byte[] tiles;
+    private final Optional<Vector2D> playerSpawn;
+    private final List<Vector2D> enemiesSpawn;
+
+    /**
+     *
+     * @param width        the width in Tiles
+     * @param height       the height in Tiles
+     * @param tiles        the Tile ids, row by row
+     * @param playerSpawn  the player's spawn, if the Segment has one
+     * @param enemiesSpawn the enemies' spawns
+     * @throws IllegalArgumentException if the Tiles don't fill the Segment
+     */
+    public SegmentData(final int width, final int height, final byte[] tiles, final Optional<Vector2D> playerSpawn,
+            final List<Vector2D> enemiesSpawn) {
+        if (width < 0 || height < 0 || tiles.length != width * height) {
+            throw new IllegalArgumentException();
+        }
+        this.width = width;
+        this.height = height;
+        this.tiles = tiles;
+        this.playerSpawn = playerSpawn;
+        this.enemiesSpawn = Collections.unmodifiableList(new ArrayList<>(enemiesSpawn));
+    }
+
+    /**
+     * Parses the rows of a text map: '0' is air, '1' stone, '2' metal, 'p' the
+     * player's spawn and 'e' an enemy's spawn, both on air. Any other character
+     * is skipped. The width is the length of the first row.
+     *
+     * @param rows
+     * @return the parsed Segment.
+     */
+    public static SegmentData fromText(final List<String> rows) {
+        final int width = rows.isEmpty() ? 0 : rows.get(0).length();
+        final int height = rows.size();
+        final byte[] tiles = new byte[width * height];
+        Optional<Vector2D> playerSpawn = Optional.empty();
+        final List<Vector2D> enemiesSpawn = new ArrayList<>();
+        for (int y = 0; y < height; y++) {
+            final String row = rows.get(y);
+            int x = 0;
+            for (int i = 0; i < row.length() && x < width; i++) {
+                switch (row.charAt(i)) {
+                case '0':
+                    tiles[y * width + x++] = AIR;
+                    break;
+                case '1':
+                    tiles[y * width + x++] = STONE;
+                    break;
+                case '2':
+                    tiles[y * width + x++] = METAL;
+                    break;
+                case 'p':
+                    playerSpawn = Optional.of(new Vector2D(x, y));
+                    tiles[y * width + x++] = AIR;
+                    break;
+                case 'e':
+                    enemiesSpawn.add(new Vector2D(x, y));
+                    tiles[y * width + x++] = AIR;
+                    break;
+                default:
+                    break;
+                }
+            }
+        }
+        return new SegmentData(width, height, tiles, playerSpawn, enemiesSpawn);
+    }
+
+    /**
+     * Returns the width, in Tiles.
+     * @return the width.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the height, in Tiles.
+     * @return the height.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Returns the id of the Tile in a cell.
+     * @param x
+     * @param y
+     * @return the Tile's id.
+     */
+    public byte getTile(final int x, final int y) {
+        return this.tiles[y * this.width + x];
+    }
+
+    /**
+     * Returns the player's spawn position, if the Segment has one.
+     * @return the player's spawn position.
+     */
+    public Optional<Vector2D> getPlayerSpawn() {
+        return this.playerSpawn;
+    }
+
+    /**
+     * Returns the enemies' spawn positions.
+     * @return the enemies' spawn positions.
+     */
+    public List<Vector2D> getEnemiesSpawn() {
+        return this.enemiesSpawn;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(width, height, Arrays.hashCode(tiles), playerSpawn, enemiesSpawn);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final SegmentData other = (SegmentData) obj;
+        return width == other.width && height == other.height && Arrays.equals(tiles, other.tiles)
+                && Objects.equals(playerSpawn, other.playerSpawn) && Objects.equals(enemiesSpawn, other.enemiesSpawn);
+    }
+}
@@ -0,0 +1,51 @@
+package util.map;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the Segments from a list of maps in the classpath. Every text map is
+ * read from its compiled version, if it has been compiled.
+ */
+public class SegmentFiles implements SegmentSource {
+
+    private final List<String> paths;
+    private int next;
+
+    /**
+     *
+     * @param paths the paths of the maps, in the order they are traversed
+     */
+    public SegmentFiles(final List<String> paths) {
+        this.paths = List.copyOf(paths);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.next < this.paths.size();
+    }
+
+    @Override
+    public SegmentData next() throws IOException {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return read(this.paths.get(this.next++));
+    }
+
+    /**
+     * Reads a map, preferring its compiled version.
+     *
+     * @param path the path of a text map or of a compiled map
+     * @return the contents of the Segment
+     * @throws IOException if the map can't be read
+     */
+    public static SegmentData read(final String path) throws IOException {
+        final String compiledPath = BinaryMap.compiledPath(path);
+        if (ClassLoader.getSystemResource(compiledPath) != null) {
+            return BinaryMap.load(compiledPath);
+        }
+        return new TextMap(path).toSegmentData();
+    }
+}
@@ -0,0 +1,129 @@
+package util.map;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import util.Vector2D;
+
+/**
+ * Generates an endless sequence of Segments as big as the bundled maps. The
+ * ground is a random walk of flat runs that rise or sink by one Tile, with
+ * some metal platforms above it and enemies standing on top of both. Every
+ * Segment starts and ends with the ground at the same height, so that they can
+ * follow each other in any order. The first Segment also has the player's
+ * spawn. The same seed always generates the same Segments.
+ */
+public class SegmentGenerator implements SegmentSource {
+
+    /**
+     * The width of the generated Segments, in Tiles.
+     */
+    public static final int WIDTH = 37;
+    /**
+     * The height of the generated Segments, in Tiles.
+     */
+    public static final int HEIGHT = 25;
+
+    /*
+     * The first row of ground at the edges of every Segment.
+     */
+    private static final int GROUND = 14;
+    private static final int MAX_RISE = 3;
+    /*
+     * Columns at the ground's height on each side of the Segment.
+     */
+    private static final int EDGE = 4;
+    private static final int MIN_RUN = 3;
+    private static final int MAX_RUN = 7;
+    private static final int MAX_PLATFORMS = 2;
+    private static final int MIN_PLATFORM = 4;
+    private static final int MAX_PLATFORM = 8;
+    private static final int PLATFORM_HEIGHT = 4;
+    private static final int MAX_ENEMIES = 3;
+    /*
+     * Characters are spawned two Tiles above the ground they will land on.
+     */
+    private static final int SPAWN_HEIGHT = 2;
+    private static final int PLAYER_X = 2;
+    /*
+     * How far from the player's spawn the enemies of the first Segment are.
+     */
+    private static final int SAFE_DISTANCE = 10;
+
+    private final SplittableRandom random;
+    private int generated;
+
+    /**
+     *
+     * @param seed the seed of the generated sequence
+     */
+    public SegmentGenerator(final long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * There is always a next Segment.
+     */
+    @Override
+    public boolean hasNext() {
+        return true;
+    }
+
+    @Override
+    public SegmentData next() {
+        final byte[] tiles = new byte[WIDTH * HEIGHT];
+        final int[] ground = this.ground();
+        for (int x = 0; x < WIDTH; x++) {
+            for (int y = ground[x]; y < HEIGHT; y++) {
+                tiles[y * WIDTH + x] = SegmentData.STONE;
+            }
+        }
+        final int platforms = this.random.nextInt(MAX_PLATFORMS + 1);
+        for (int i = 0; i < platforms; i++) {
+            final int length = this.random.nextInt(MIN_PLATFORM, MAX_PLATFORM + 1);
+            final int start = this.random.nextInt(EDGE, WIDTH - EDGE - length + 1);
+            int top = GROUND;
+            for (int x = start; x < start + length; x++) {
+                top = Math.min(top, ground[x]);
+            }
+            for (int x = start; x < start + length; x++) {
+                tiles[(top - PLATFORM_HEIGHT) * WIDTH + x] = SegmentData.METAL;
+            }
+        }
+        final Optional<Vector2D> playerSpawn = this.generated == 0
+                ? Optional.of(new Vector2D(PLAYER_X, GROUND - SPAWN_HEIGHT))
+                : Optional.empty();
+        final int firstEnemy = this.generated == 0 ? PLAYER_X + SAFE_DISTANCE : EDGE;
+        final int enemies = this.random.nextInt(1, MAX_ENEMIES + 1);
+        final List<Vector2D> enemiesSpawn = new ArrayList<>(enemies);
+        for (int i = 0; i < enemies; i++) {
+            final int x = this.random.nextInt(firstEnemy, WIDTH - EDGE);
+            int top = 0;
+            while (tiles[top * WIDTH + x] == SegmentData.AIR) {
+                top++;
+            }
+            enemiesSpawn.add(new Vector2D(x, top - SPAWN_HEIGHT));
+        }
+        this.generated++;
+        return new SegmentData(WIDTH, HEIGHT, tiles, playerSpawn, enemiesSpawn);
+    }
+
+    /**
+     * Walks the first row of ground of every column.
+     */
+    private int[] ground() {
+        final int[] ground = new int[WIDTH];
+        int height = GROUND;
+        int x = 0;
+        while (x < WIDTH) {
+            final int run = this.random.nextInt(MIN_RUN, MAX_RUN + 1);
+            for (int i = 0; i < run && x < WIDTH; i++, x++) {
+                ground[x] = x < EDGE || x >= WIDTH - EDGE ? GROUND : height;
+            }
+            height = Math.max(GROUND - MAX_RISE, Math.min(GROUND, height + this.random.nextInt(-1, 2)));
+        }
+        return ground;
+    }
+}
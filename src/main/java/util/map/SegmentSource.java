@@ -0,0 +1,26 @@
+package util.map;
+
+import java.io.IOException;
+
+/**
+ * Provides the contents of the Segments of a Level one after the other, so
+ * that they can be read only when they are about to be reached.
+ */
+public interface SegmentSource {
+
+    /**
+     * Tells if there are Segments left.
+     *
+     * @return false if the Level is over
+     */
+    boolean hasNext();
+
+    /**
+     * Reads the next Segment. It may be called from a background thread.
+     *
+     * @return the contents of the next Segment
+     * @throws IOException if the Segment can't be read
+     * @throws java.util.NoSuchElementException if there are no Segments left
+     */
+    SegmentData next() throws IOException;
+}
@@ -2,33 +2,41 @@ package util.map;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
- * 
+ *
  *
  */
 public class TextMap {
 
     private final double width;
     private final double height;
+    private final List<String> rows;
 
     private final String path;
 
     /**
-     * 
+     *
      * @param path
      * @throws IOException
      */
     public TextMap(final String path) throws IOException {
         this.path = path;
-        var br = new BufferedReader(new InputStreamReader(ClassLoader.getSystemResourceAsStream(path)));
-        this.height = br.lines().count();
-        br.close();
-        br = new BufferedReader(new InputStreamReader(ClassLoader.getSystemResourceAsStream(path)));
-        this.width = br.readLine().length();
-        br.close();
+        final InputStream input = ClassLoader.getSystemResourceAsStream(path);
+        if (input == null) {
+            throw new FileNotFoundException(path);
+        }
+        try (var br = new BufferedReader(new InputStreamReader(input))) {
+            this.rows = br.lines().collect(Collectors.toUnmodifiableList());
+        }
+        this.height = this.rows.size();
+        this.width = this.rows.isEmpty() ? 0 : this.rows.get(0).length();
     }
 
     /**
@@ -47,6 +55,14 @@ public class TextMap {
         return height;
     }
 
+    /**
+     * Parses the TextMap's contents.
+     * @return the contents of the Segment.
+     */
+    public SegmentData toSegmentData() {
+        return SegmentData.fromText(this.rows);
+    }
+
     /**
      * Returns the TextMap's source file.
      * @return the file.
@@ -1,21 +1,25 @@
 package util.view;
 
 import java.io.FileNotFoundException;
+import java.util.HashMap;
+import java.util.Map;
+
 import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import javafx.scene.image.PixelReader;
 import javafx.scene.image.WritableImage;
 import util.Pair;
 
 /**
- * 
- * 
+ * An animation read from a sprite sheet: the first line holds the frames
+ * facing right, the second one the same frames facing left. The frames are
+ * cut out once per sprite sheet and shared by every Animation using it.
  */
 public class Animation {
 
+    private static final Map<String, Image[][]> FRAMES = new HashMap<>();
+
     private int currFrame;
-    private final PixelReader reader;
-    private final Pair<Integer, Integer> size;
+    private final Image[][] sheet;
     private int curdelay;
     private int delay;
     private int frames;
@@ -30,8 +34,7 @@ public class Animation {
      */
     public Animation(final String path, final Pair<Integer, Integer> size, final int frames, final int delay) {
         this.currFrame = 0;
-        this.reader = new Image(ClassLoader.getSystemResourceAsStream(path)).getPixelReader();
-        this.size = size;
+        this.sheet = getFrames(path, size);
         this.delay = delay;
         this.frames = frames;
         this.curdelay = delay;
@@ -47,8 +50,7 @@ public class Animation {
     public Animation(final int startFrame, final String path, final Pair<Integer, Integer> size)
             throws FileNotFoundException {
         this.currFrame = startFrame;
-        this.reader = new Image(ClassLoader.getSystemResourceAsStream(path)).getPixelReader();
-        this.size = size;
+        this.sheet = getFrames(path, size);
     }
 
     /**
@@ -63,9 +65,7 @@ public class Animation {
         } else {
             line = 1;
         }
-        return new ImageView(
-                new WritableImage(reader, currFrame * size.getX(), size.getY() * line, size.getX(), size.getY()))
-                        .getImage();
+        return sheet[line][currFrame];
     }
 
     /**
@@ -89,4 +89,23 @@ public class Animation {
         }
     }
 
+    /**
+     * Returns the frames of a sprite sheet, cutting them out the first time
+     * the sheet is used.
+     */
+    private static Image[][] getFrames(final String path, final Pair<Integer, Integer> size) {
+        return FRAMES.computeIfAbsent(path + "@" + size.getX() + "x" + size.getY(), k -> {
+            final Image image = new Image(ClassLoader.getSystemResourceAsStream(path));
+            final PixelReader reader = image.getPixelReader();
+            final int columns = (int) image.getWidth() / size.getX();
+            final Image[][] frames = new Image[2][columns];
+            for (int line = 0; line < frames.length; line++) {
+                for (int frame = 0; frame < columns; frame++) {
+                    frames[line][frame] = new WritableImage(reader, frame * size.getX(), size.getY() * line,
+                            size.getX(), size.getY());
+                }
+            }
+            return frames;
+        });
+    }
 }
@@ -1,22 +1,27 @@
 package view;
 
 import java.io.FileNotFoundException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
+import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import util.Vector2D;
+import model.weapons.BulletPool;
 import util.map.MapConstants;
 
 /**
- * This class holds the instances of the imageViews representing bullets.
+ * This class holds the instances of the imageViews representing bullets. The
+ * imageViews are kept from a frame to the next one: they are only created when
+ * there are more bullets than ever before, and the ones left without a bullet
+ * are hidden instead of being removed from the scene.
  */
 public class BulletsView {
 
     private final List<ImageView> imageViewList;
     private final Image bulletTexture;
     private final double scale;
+    private int visible;
 
     /**
      * 
@@ -25,34 +30,45 @@ public class BulletsView {
      */
     public BulletsView(final double scale) throws FileNotFoundException {
         this.scale = scale;
-        this.imageViewList = new LinkedList<>();
+        this.imageViewList = new ArrayList<>();
         bulletTexture = new Image(ClassLoader.getSystemResourceAsStream("bullet6x4.png"));
     }
 
     /**
+     * Moves an imageView on every bullet of the pool, between where the bullet
+     * was on the previous tick and where it is on the last one: the bullets
+     * move in a straight line, so the previous position is a step back.
      * 
-     * @param bullets new bullets coordinates.
+     * @param bullets the bullets in game
+     * @param parent  where the new imageViews are added
+     * @param alpha   how far the frame is between the last tick and the next
+     *                one, from 0 to 1
      */
-    public void updateBullets(final List<Vector2D> bullets) {
-        for (int i = 0; i < this.imageViewList.size() && i < bullets.size(); i++) {
-            this.imageViewList.get(i).setX(bullets.get(i).getX() * this.scale * MapConstants.getTilesize());
-            this.imageViewList.get(i).setY(bullets.get(i).getY() * this.scale * MapConstants.getTilesize());
-        }
+    public void updateBullets(final BulletPool bullets, final List<Node> parent, final double alpha) {
+        final double size = this.scale * MapConstants.getTilesize();
         for (int i = this.imageViewList.size(); i < bullets.size(); i++) {
             final var iv = new ImageView(this.bulletTexture);
-            iv.setX(bullets.get(i).getX() * this.scale * MapConstants.getTilesize());
-            iv.setY(bullets.get(i).getY() * this.scale * MapConstants.getTilesize());
             iv.setScaleX(this.scale);
             iv.setScaleY(this.scale);
             this.imageViewList.add(iv);
+            parent.add(iv);
+        }
+        for (int i = 0; i < bullets.size(); i++) {
+            final ImageView iv = this.imageViewList.get(i);
+            iv.setX((bullets.getX(i) - bullets.getStepX(i) * (1 - alpha)) * size);
+            iv.setY((bullets.getY(i) - bullets.getStepY(i) * (1 - alpha)) * size);
+        }
+        for (int i = bullets.size(); i < this.visible; i++) {
+            this.imageViewList.get(i).setVisible(false);
         }
-        while (bullets.size() < this.imageViewList.size()) {
-            this.imageViewList.remove(this.imageViewList.size() - 1);
+        for (int i = this.visible; i < bullets.size(); i++) {
+            this.imageViewList.get(i).setVisible(true);
         }
+        this.visible = bullets.size();
     }
 
     /**
-     * @return bullets ImageView list.
+     * @return bullets ImageView list, including the hidden ones.
      */
     public List<ImageView> getImageViewList() {
         return this.imageViewList;
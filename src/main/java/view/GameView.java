@@ -4,15 +4,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import javax.management.InstanceNotFoundException;
 
-import javafx.animation.ParallelTransition;
-import javafx.animation.TranslateTransition;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Group;
 import javafx.scene.Node;
@@ -20,13 +16,14 @@ import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
-import javafx.util.Duration;
 import model.StageImpl;
 import model.character.Enemy;
 import util.map.MapConstants;
 import view.character.EnemyView;
 import view.character.PlayerView;
 import view.map.CameraManager;
+import view.map.CanvasLevelView;
+import view.map.LevelRenderer;
 import view.map.LevelView;
 import controller.Controller;
 import controller.menu.HUD;
@@ -43,7 +40,7 @@ public class GameView extends Scene {
     private final PlayerView playerView = new PlayerView();
     private final Map<Enemy, EnemyView> enemiesView = new HashMap<>();
     private final BulletsView bulletsView = new BulletsView(1);
-    private final LevelView levelView;
+    private final LevelRenderer levelView;
     private final ImageView background = new ImageView(
             new Image(ClassLoader.getSystemResourceAsStream("backgroundLarge.png")));
     private final Controller controller;
@@ -53,6 +50,11 @@ public class GameView extends Scene {
     private GridPane pauseMenu;
     private final Node hud;
     private static final double SCALINGFACTOR = 1.75;
+    /**
+     * System property that, when true, draws the Level on a Canvas instead of
+     * with a node for every Tile.
+     */
+    public static final String CANVAS_TILEMAP_PROPERTY = "metalshot.canvasTilemap";
 
     /**
      * The GameView constructor.
@@ -64,14 +66,19 @@ public class GameView extends Scene {
     public GameView(final Controller controller) throws IOException, InstanceNotFoundException {
         super(new Group());
         this.controller = controller;
-        this.levelView = new LevelView(this.controller.getStage().getLevel());
+        this.levelView = Boolean.getBoolean(CANVAS_TILEMAP_PROPERTY)
+                ? new CanvasLevelView(this.controller.getStage().getLevel())
+                : new LevelView(this.controller.getStage().getLevel());
         final List<Node> totalList = new ArrayList<>();
         totalList.add(background);
         totalList.addAll(levelView.displaySegments(controller.getStage().getPlayer().getPosition()));
         totalList.add(playerView.getCharacterImageView());
 
+        playerView.snapshot(controller.getStage().getPlayer());
         for (final Enemy enemy : controller.getStage().getEnemies()) {
-            enemiesView.put(enemy, new EnemyView());
+            final EnemyView enemyView = new EnemyView();
+            enemyView.snapshot(enemy);
+            enemiesView.put(enemy, enemyView);
         }
         for (final EnemyView enemyView : this.enemiesView.values()) {
             totalList.add(enemyView.getCharacterImageView());
@@ -79,6 +86,8 @@ public class GameView extends Scene {
         final FXMLLoader loader = new FXMLLoader(ClassLoader.getSystemResource("fxml/HUD.fxml"));
         hud = loader.load();
         this.hudController = (HUD) loader.getController();
+        this.hudController.setSize(CameraManager.HORIZONTALDEFAULT * SCALINGFACTOR,
+                CameraManager.VERTICALDEFAULT * SCALINGFACTOR);
         this.root = new Group(totalList);
 
         this.setRoot(root);
@@ -104,12 +113,21 @@ public class GameView extends Scene {
     /**
      * Returns the View side of the map.
      * 
-     * @return the LevelView
+     * @return the LevelRenderer
      */
-    public LevelView getLevelView() {
+    public LevelRenderer getLevelView() {
         return this.levelView;
     }
 
+    /**
+     * Returns the controller of the HUD.
+     * 
+     * @return the HUD
+     */
+    public HUD getHud() {
+        return this.hudController;
+    }
+
     /**
      * Returns the View side of the bullets.
      * 
@@ -120,47 +138,64 @@ public class GameView extends Scene {
     }
 
     /**
-     * Updates the current visual frame using the info of the stage.
+     * Keeps what a frame needs from the stage after a tick: where the
+     * characters are and where the camera is. It's called once per tick, so it
+     * only copies a few positions and leaves the scene alone.
      * 
      * @param stage
      */
-    public void refresh(final StageImpl stage) {
-        final TranslateTransition tt = new TranslateTransition(Duration.millis(1), this.hud);
-        tt.setToX(cameraManager.getOffset() * MapConstants.getTilesize());
-        final ParallelTransition pt = new ParallelTransition();
-        this.hud.toFront();
-        pt.getChildren().add(tt);
-        pt.play();
-
-        final TranslateTransition btt = new TranslateTransition(Duration.millis(1), this.background);
-        btt.setToX(cameraManager.getOffset() * MapConstants.getTilesize() - cameraManager.HORIZONTALDEFAULT);
-        final ParallelTransition bpt = new ParallelTransition();
-        bpt.getChildren().add(btt);
-        bpt.play();
-
-        this.hudController.setSize(CameraManager.HORIZONTALDEFAULT * SCALINGFACTOR, CameraManager.VERTICALDEFAULT * SCALINGFACTOR);
-
-        cameraManager.updateCamera();
+    public void snapshot(final StageImpl stage) {
+        cameraManager.step();
+        playerView.snapshot(stage.getPlayer());
+        for (final Enemy enemy : stage.getEnemies()) {
+            final EnemyView enemyView = enemiesView.get(enemy);
+            if (enemyView != null) {
+                enemyView.snapshot(enemy);
+            }
+        }
+    }
 
-        if (stage.getEnemies().size() != enemiesView.keySet().size()) {
+    /**
+     * Renders a frame between two ticks. The camera, the background, the
+     * characters and the bullets are placed between where they were on the
+     * previous tick and where they are on the last one, while the sprites and
+     * the HUD show the last tick. The nodes are kept from a frame to the next
+     * one: only the ones of the spawned or removed entities are added to or
+     * removed from the scene, and the others are just moved.
+     * 
+     * @param alpha how far the frame is between the last tick and the next one,
+     *              from 0 to 1
+     */
+    public void render(final double alpha) {
+        final StageImpl stage = this.controller.getStage();
+        cameraManager.render(alpha);
+        final double offset = cameraManager.getOffset(alpha) * MapConstants.getTilesize();
+        this.hud.setTranslateX(offset);
+        this.background.setTranslateX(offset - CameraManager.HORIZONTALDEFAULT);
+        this.levelView.update(-this.root.getTranslateX());
+
+        if (stage.getEnemies().size() != enemiesView.size()) {
             removeEnemies(stage.getEnemies());
         }
-
         for (final Enemy enemy : stage.getEnemies()) {
-            enemiesView.get(enemy).updateCharacter(enemy);
+            final EnemyView enemyView = enemiesView.get(enemy);
+            if (enemyView == null) {
+                enemiesView.put(enemy, addEnemy(enemy));
+            } else {
+                enemyView.updateCharacter(enemy);
+            }
         }
+        this.enemiesView.values().forEach(e -> e.interpolate(alpha));
 
         playerView.updateCharacter(stage.getPlayer());
+        this.playerView.interpolate(alpha);
 
-        // Updates bullets
-        if (stage.getBullets().size() != this.bulletsView.getImageViewList().size()) {
-            this.root.getChildren().removeAll(this.bulletsView.getImageViewList());
-            this.bulletsView
-                    .updateBullets(stage.getBullets().stream().map(b -> b.getPosition()).collect(Collectors.toList()));
-            this.root.getChildren().addAll(this.bulletsView.getImageViewList());
-        } else {
-            this.bulletsView
-                    .updateBullets(stage.getBullets().stream().map(b -> b.getPosition()).collect(Collectors.toList()));
+        this.bulletsView.updateBullets(stage.getBulletPool(), this.root.getChildren(), alpha);
+
+        // the HUD stays above the nodes added since the last frame
+        final List<Node> children = this.root.getChildren();
+        if (children.get(children.size() - 1) != this.hud) {
+            this.hud.toFront();
         }
         this.controller.getUserData().setLpLeft(stage.getPlayer().getHealth().getHealth());
         hudController.refresh(this.controller.getUserData());
@@ -256,11 +291,9 @@ public class GameView extends Scene {
         group.getChildren().add(goMenu);
         final GameOverMenuController gomc = (GameOverMenuController) loader.getController();
         gomc.setInfoToDisplay(
-                this.controller.getStage().getLevel().getSegments()
-                        .indexOf(this.controller.getStage().getLevel()
-                                .getSegmentAtPosition(this.controller.getStage().getPlayer().getPosition()))
-                        + 1,
-                this.controller.getStage().getLevel().getSegments().size(), this.controller.getUserData());
+                this.controller.getStage().getLevel()
+                        .getSegmentIndex(this.controller.getStage().getPlayer().getPosition().getX()) + 1,
+                this.controller.getStage().getLevel().getSegmentCount(), this.controller.getUserData());
         this.setRoot(group);
     }
 
@@ -280,22 +313,28 @@ public class GameView extends Scene {
         return enemiesView;
     }
 
-    @SuppressWarnings("unlikely-arg-type")
+    /**
+     * Creates the view of an Enemy spawned on a Segment appended to a streamed
+     * Level, already where the Enemy is: it has no previous tick to be
+     * interpolated from.
+     */
+    private EnemyView addEnemy(final Enemy enemy) {
+        final EnemyView enemyView = new EnemyView();
+        enemyView.snapshot(enemy);
+        enemyView.updateCharacter(enemy);
+        this.root.getChildren().add(enemyView.getCharacterImageView());
+        return enemyView;
+    }
+
     private void removeEnemies(final Collection<Enemy> enemies) {
-        final List<EnemyView> removable = new LinkedList<>();
-        final List<ImageView> remove = new LinkedList<>();
-        enemiesView.forEach((k, v) -> {
-            if (!enemies.contains(k)) {
-                removable.add(enemiesView.get(k));
-                remove.add(enemiesView.get(k).getCharacterImageView());
+        final var iterator = enemiesView.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final var entry = iterator.next();
+            if (!enemies.contains(entry.getKey())) {
+                this.root.getChildren().remove(entry.getValue().getCharacterImageView());
+                iterator.remove();
             }
-        });
-
-        removable.forEach(e -> {
-            enemiesView.remove(e);
-        });
-
-        this.root.getChildren().removeAll(remove);
+        }
     }
 
     /**
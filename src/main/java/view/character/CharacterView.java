@@ -22,6 +22,10 @@ public class CharacterView {
     private final Animation characterRunDown;
     private final ImageView characterImageView = new ImageView();
     private final Vector2D imageOffset = new Vector2D(0.5, 0.5);
+    private double previousX = Double.NaN;
+    private double previousY;
+    private double currentX;
+    private double currentY;
 
     /**
      * 
@@ -46,7 +50,27 @@ public class CharacterView {
     }
 
     /**
-     * Updates the Character's View to reflect any changes on its Model.
+     * Keeps the position the Character has after a tick, along with the one it
+     * had after the previous tick, for {@link #interpolate(double)}.
+     * 
+     * @param character
+     */
+    public void snapshot(final Character character) {
+        final var adjustY = character.isCrouching() ? character.getHitbox().getY() : 0d;
+        final var firstUpdate = Double.isNaN(this.previousX);
+        this.previousX = this.currentX;
+        this.previousY = this.currentY;
+        this.currentX = (character.getPosition().getX() - imageOffset.getX()) * MapConstants.getTilesize();
+        this.currentY = (character.getPosition().getY() - imageOffset.getY() - adjustY) * MapConstants.getTilesize();
+        if (firstUpdate) {
+            this.previousX = this.currentX;
+            this.previousY = this.currentY;
+        }
+    }
+
+    /**
+     * Updates the sprite of the Character's View to reflect any changes on its
+     * Model, once per frame.
      * 
      * @param character
      */
@@ -66,11 +90,6 @@ public class CharacterView {
                     CharacterSprites.PLAYERCROUCHIDLERIFLE, CharacterSprites.PLAYERCROUCHRUNRIFLE);
         }
 
-        final var adjustY = character.isCrouching() ? character.getHitbox().getY() : 0d;
-        characterImageView.setX((character.getPosition().getX() - imageOffset.getX()) * MapConstants.getTilesize());
-        characterImageView
-                .setY((character.getPosition().getY() - imageOffset.getY() - adjustY) * MapConstants.getTilesize());
-
         if (character.getSpeed().getX() == 0) {
             switch (character.getAim().getDirection().getY()) {
             case UP:
@@ -215,6 +234,18 @@ public class CharacterView {
         }
     }
 
+    /**
+     * Places the Character's ImageView between the position it had on the
+     * previous tick and the one it has on the last tick.
+     * 
+     * @param alpha how far the frame is between the last tick and the next one,
+     *              from 0 to 1
+     */
+    public void interpolate(final double alpha) {
+        characterImageView.setX(this.previousX + (this.currentX - this.previousX) * alpha);
+        characterImageView.setY(this.previousY + (this.currentY - this.previousY) * alpha);
+    }
+
     /**
      * Returns the CharacterView's ImageView.
      * 
@@ -0,0 +1,100 @@
+package view.map;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import util.map.AutotileMask;
+import util.map.MapConstants;
+
+/**
+ * Caches the images of the autotiled Tiles. Every autotile sheet is decoded
+ * once, and every look of a Tile (one for each canonical
+ * {@link AutotileMask}) is composed once from the sheet's layers and then
+ * shared by all the Tiles that look the same.
+ */
+public class AutotileAtlas {
+
+    private static final int ALPHA_SHIFT = 24;
+    private static final int RED_SHIFT = 16;
+    private static final int GREEN_SHIFT = 8;
+    private static final int[] COLOR_SHIFTS = { RED_SHIFT, GREEN_SHIFT, 0 };
+    private static final int CHANNEL = 0xFF;
+    private static final double MAX_CHANNEL = 255.0;
+
+    private final Map<String, PixelReader> sheets = new HashMap<>();
+    private final Map<String, Image[]> variants = new HashMap<>();
+
+    /**
+     * Returns the image of a Tile drawn with the given sheet, merged with the
+     * neighbours in the given mask. A streamed Level is autotiled on a
+     * background thread, so the cache is locked.
+     *
+     * @param path the path of the autotile sheet
+     * @param mask the neighbours of the Tile, see {@link AutotileMask}
+     * @return the image of the Tile
+     */
+    public synchronized Image getVariant(final String path, final int mask) {
+        final int canonical = AutotileMask.canonical(mask);
+        final Image[] sheetVariants = this.variants.computeIfAbsent(path, p -> new Image[AutotileMask.MASKS]);
+        if (sheetVariants[canonical] == null) {
+            sheetVariants[canonical] = this.compose(this.getSheet(path), AutotileMask.layers(canonical));
+        }
+        return sheetVariants[canonical];
+    }
+
+    private PixelReader getSheet(final String path) {
+        return this.sheets.computeIfAbsent(path,
+                p -> new Image(ClassLoader.getSystemResourceAsStream(p)).getPixelReader());
+    }
+
+    /**
+     * Draws the layers one over the other.
+     */
+    private Image compose(final PixelReader sheet, final int[] layers) {
+        final int size = MapConstants.getTilesize();
+        final int[] pixels = new int[size * size];
+        for (final int layer : layers) {
+            final int originX = (layer % AutotileMask.SHEET_COLUMNS) * size;
+            final int originY = (layer / AutotileMask.SHEET_COLUMNS) * size;
+            for (int y = 0; y < size; y++) {
+                for (int x = 0; x < size; x++) {
+                    pixels[y * size + x] = over(sheet.getArgb(originX + x, originY + y), pixels[y * size + x]);
+                }
+            }
+        }
+        final WritableImage image = new WritableImage(size, size);
+        final PixelWriter writer = image.getPixelWriter();
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                writer.setArgb(x, y, pixels[y * size + x]);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Blends a pixel over another one, as the scene graph would do.
+     */
+    private static int over(final int source, final int destination) {
+        final double sourceAlpha = (source >>> ALPHA_SHIFT) / MAX_CHANNEL;
+        if (sourceAlpha >= 1) {
+            return source;
+        }
+        final double destinationAlpha = (destination >>> ALPHA_SHIFT) / MAX_CHANNEL * (1 - sourceAlpha);
+        final double alpha = sourceAlpha + destinationAlpha;
+        if (alpha <= 0) {
+            return 0;
+        }
+        int result = (int) Math.round(alpha * MAX_CHANNEL) << ALPHA_SHIFT;
+        for (final int shift : COLOR_SHIFTS) {
+            final double channel = (((source >> shift) & CHANNEL) * sourceAlpha
+                    + ((destination >> shift) & CHANNEL) * destinationAlpha) / alpha;
+            result |= (int) Math.round(channel) << shift;
+        }
+        return result;
+    }
+}
@@ -1,7 +1,10 @@
 package view.map;
 
+import java.util.List;
+
 import controller.Controller;
-import javafx.animation.ParallelTransition;
+import controller.LevelStreamer;
+import javafx.animation.Animation;
 import javafx.animation.TranslateTransition;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
@@ -9,24 +12,31 @@ import javafx.scene.Camera;
 import javafx.scene.Group;
 import javafx.scene.PerspectiveCamera;
 import javafx.util.Duration;
+import model.map.Segment;
 import util.Pair;
 import util.Vector2D;
 import util.map.MapConstants;
 import view.GameView;
 
 /**
- * Handles camera movement and resizing of viewable space.
+ * Handles camera movement and resizing of viewable space. When the Level is
+ * streamed, it also keeps the displayed Segments in line with the resident ones.
  */
-public class CameraManager {
+public class CameraManager implements LevelStreamer.Listener {
 
     private final Controller controller;
     private Vector2D prevPosSegment;
     private final Group root;
-    private final LevelView levelView;
+    private final LevelRenderer levelView;
     private final GameView gameView;
     private double offset;
+    private double previousOffset;
+    private boolean segmentChanged;
+    private boolean redisplay;
+    private final TranslateTransition transition;
     private double cameraScaleFactorX;
     private double cameraScaleFactorY;
+    private Pair<Double, Double> bounds = new Pair<>(0.0, 0.0);
     private final Camera camera = new PerspectiveCamera();
     /**
      * Fixed horizontal screen reference size.
@@ -36,6 +46,7 @@ public class CameraManager {
      * Fixed vertical screen reference size.
      */
     public static final double VERTICALDEFAULT = 1080;
+    private static final double SEGMENT_TRANSITION_MILLIS = 1000;
 
     /**
      * Camera manager constructor.
@@ -44,53 +55,40 @@ public class CameraManager {
      * @param levelView
      * @param gameView
      */
-    public CameraManager(final Controller controller, final Group root, final LevelView levelView, final GameView gameView) {
+    public CameraManager(final Controller controller, final Group root, final LevelRenderer levelView, final GameView gameView) {
         this.controller = controller;
         this.prevPosSegment = new Vector2D(controller.getStage().getPlayer().getPosition());
         this.root = root;
         this.levelView = levelView;
         this.gameView = gameView;
+        this.transition = new TranslateTransition(Duration.millis(SEGMENT_TRANSITION_MILLIS), root);
+        this.transition.setOnFinished(new EventHandler<ActionEvent>() {
+
+            @Override
+            public void handle(final ActionEvent event) {
+                root.getChildren()
+                        .removeAll(levelView.getPreviousSegment(controller.getStage().getPlayer().getPosition()));
+            }
+        });
     }
 
     /**
-     * Updates the camera's parameters based on the game's state.
+     * Follows the player after a tick: it moves the offset of the camera, which
+     * bounds the player, and notes the change of Segment. The nodes are only
+     * touched by {@link #render(double)}, once per frame.
      */
-    public void updateCamera() {
-        double adjust;
-        cameraScaleFactorX = HORIZONTALDEFAULT / gameView.getWidth();
-        cameraScaleFactorY = VERTICALDEFAULT / gameView.getHeight();
-
-        if (cameraScaleFactorX <= cameraScaleFactorY) {
-            adjust = HORIZONTALDEFAULT;
-            this.camera.setScaleX(cameraScaleFactorX);
-            this.camera.setScaleY(cameraScaleFactorX);
-        } else {
-            adjust = gameView.getWidth() * cameraScaleFactorY;
-            this.camera.setScaleX(cameraScaleFactorY);
-            this.camera.setScaleY(cameraScaleFactorY);
-        }
+    public void step() {
+        this.previousOffset = this.offset;
+        final double adjust = Math.min(HORIZONTALDEFAULT,
+                gameView.getWidth() * VERTICALDEFAULT / gameView.getHeight());
         if (!controller.getStage().getLevel().getSegmentAtPosition(controller.getStage().getPlayer().getPosition())
                 .equals(controller.getStage().getLevel().getSegmentAtPosition(prevPosSegment))) {
             prevPosSegment = new Vector2D(controller.getStage().getPlayer().getPosition());
-            this.root.getChildren().removeAll(levelView.getDisplayed());
-            this.root.getChildren().addAll(levelView.displaySegments(controller.getStage().getPlayer().getPosition()));
-            final TranslateTransition tt = new TranslateTransition(Duration.millis(1000), this.root);
-            tt.setToX(-(new Vector2D(controller.getStage().getLevel()
-                    .getSegmentAtPosition(controller.getStage().getPlayer().getPosition()).getOrigin()).getX())
-                    * MapConstants.getTilesize());
-            final ParallelTransition pt = new ParallelTransition();
-            pt.getChildren().add(tt);
-            pt.play();
-            pt.setOnFinished(new EventHandler<ActionEvent>() {
-
-                @Override
-                public void handle(final ActionEvent event) {
-                    root.getChildren()
-                            .removeAll(levelView.getPreviousSegment(controller.getStage().getPlayer().getPosition()));
-                }
-            });
             offset = controller.getStage().getLevel()
                     .getSegmentAtPosition(controller.getStage().getPlayer().getPosition()).getOrigin().getX();
+            // the transition moves the camera to the new Segment, there is nothing to blend
+            this.previousOffset = this.offset;
+            this.segmentChanged = true;
 
             controller.refreshEnemiesStatus();
         }
@@ -100,22 +98,57 @@ public class CameraManager {
                 && (adjust / MapConstants.getTilesize()) + offset
                         - controller.getStage().getLevel().getDistance(controller.getStage().getLevel()
                                 .getSegmentAtPosition(controller.getStage().getPlayer().getPosition())) < 0) {
-            final TranslateTransition tt = new TranslateTransition(Duration.millis(1), this.root);
-            tt.setToX(-(((offset + controller.getStage().getPlayer().getSpeed().getX()) * MapConstants.getTilesize())));
-            final ParallelTransition pt = new ParallelTransition();
-            pt.getChildren().add(tt);
-            pt.play();
             offset += controller.getStage().getPlayer().getSpeed().getX();
         }
     }
 
+    /**
+     * Updates the camera's parameters for a frame: it scales the camera to the
+     * window and places it between the offset of the previous tick and the one
+     * of the last tick. When the player changed Segment, the new Segment is
+     * displayed and the camera moves to it with a transition instead.
+     *
+     * @param alpha how far the frame is between the last tick and the next one,
+     *              from 0 to 1
+     */
+    public void render(final double alpha) {
+        cameraScaleFactorX = HORIZONTALDEFAULT / gameView.getWidth();
+        cameraScaleFactorY = VERTICALDEFAULT / gameView.getHeight();
+        final double scale = Math.min(cameraScaleFactorX, cameraScaleFactorY);
+        this.camera.setScaleX(scale);
+        this.camera.setScaleY(scale);
+
+        if (this.segmentChanged || this.redisplay) {
+            final Vector2D playerPosition = controller.getStage().getPlayer().getPosition();
+            this.root.getChildren().removeAll(levelView.getDisplayed());
+            this.root.getChildren().addAll(levelView.displaySegments(playerPosition));
+            if (this.redisplay && !this.segmentChanged) {
+                this.root.getChildren().removeAll(levelView.getPreviousSegment(playerPosition));
+            }
+            this.redisplay = false;
+        }
+        if (this.segmentChanged) {
+            this.segmentChanged = false;
+            this.transition.stop();
+            this.transition.setToX(-this.offset * MapConstants.getTilesize());
+            this.transition.play();
+        } else if (this.transition.getStatus() != Animation.Status.RUNNING) {
+            this.root.setTranslateX(-this.getOffset(alpha) * MapConstants.getTilesize());
+        }
+    }
+
     /**
      * Returns the left and right bounds of the area the player can traverse.
+     * The same Pair is returned until the bounds change.
      * @return the left and right bound of the traversable area as a Pair.
      */
     public Pair<Double, Double> getBounds() {
-        return new Pair<Double, Double>(offset, controller.getStage().getLevel().getDistance(controller.getStage()
-                .getLevel().getSegmentAtPosition(controller.getStage().getPlayer().getPosition())));
+        final double right = controller.getStage().getLevel().getDistance(controller.getStage()
+                .getLevel().getSegmentAtPosition(controller.getStage().getPlayer().getPosition()));
+        if (bounds.getX() != offset || bounds.getY() != right) {
+            bounds = new Pair<Double, Double>(offset, right);
+        }
+        return bounds;
     }
 
     /**
@@ -126,6 +159,15 @@ public class CameraManager {
         return this.offset;
     }
 
+    /**
+     * Returns the offset of the camera between the previous tick and the last one.
+     * @param alpha how far the frame is between the last tick and the next one, from 0 to 1
+     * @return the interpolated offset value.
+     */
+    public double getOffset(final double alpha) {
+        return this.previousOffset + (this.offset - this.previousOffset) * alpha;
+    }
+
     /**
      * Returns the camera managed by the CameraManager.
      * @return the camera object.
@@ -149,4 +191,24 @@ public class CameraManager {
     public Pair<Double, Double> getScaleFactors() {
         return new Pair<Double, Double>(this.cameraScaleFactorX, this.cameraScaleFactorY);
     }
+
+    @Override
+    public void segmentLoaded(final List<Segment> window) {
+        this.levelView.segmentLoaded(window);
+    }
+
+    /**
+     * Displays the new Segment along with the ones around the player, on the
+     * next frame.
+     */
+    @Override
+    public void segmentAppended(final int index, final Segment segment) {
+        this.levelView.segmentAppended(index, segment);
+        this.redisplay = true;
+    }
+
+    @Override
+    public void segmentEvicted(final int index, final Segment segment) {
+        this.levelView.segmentEvicted(index, segment);
+    }
 }
@@ -0,0 +1,106 @@
+package view.map;
+
+import java.util.List;
+
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import model.map.Level;
+import model.map.Segment;
+import util.Vector2D;
+import util.map.MapConstants;
+
+/**
+ * Draws the Tiles of the Level on a single Canvas as wide as the camera,
+ * instead of adding a node for every Tile to the scene. Only the Tiles under
+ * the camera are drawn, and the Canvas is redrawn only when the camera has
+ * moved by a whole Tile: in between it is just moved along with the scene.
+ * When the Level is streamed, the Tiles are autotiled again for every new
+ * Segment, together with the resident ones.
+ */
+public class CanvasLevelView implements LevelRenderer {
+
+    /*
+     * Columns drawn on each side of the camera, so that no Tile pops in while
+     * the camera moves between two redraws.
+     */
+    private static final int MARGIN = 1;
+
+    private final AutotileAtlas atlas = new AutotileAtlas();
+    private TileImageGrid grid;
+    /**
+     * The images autotiled on the loading thread for the Segments that will be resident.
+     */
+    private volatile TileImageGrid loaded;
+    private final Canvas canvas;
+    private final List<Node> displayed;
+    private final int columns;
+    private int firstColumn = Integer.MIN_VALUE;
+
+    /**
+     *
+     * @param level
+     */
+    public CanvasLevelView(final Level level) {
+        this.grid = new TileImageGrid(level, this.atlas);
+        this.columns = (int) Math.ceil(CameraManager.HORIZONTALDEFAULT / MapConstants.getTilesize()) + 2 * MARGIN;
+        this.canvas = new Canvas(this.columns * MapConstants.getTilesize(),
+                this.grid.getHeight() * MapConstants.getTilesize());
+        this.displayed = List.of(this.canvas);
+    }
+
+    /**
+     * The Canvas draws every Segment, so it is always the only node displayed.
+     */
+    @Override
+    public List<Node> displaySegments(final Vector2D playerPosition) {
+        return this.displayed;
+    }
+
+    @Override
+    public List<Node> getDisplayed() {
+        return this.displayed;
+    }
+
+    /**
+     * The Canvas is never removed: there is nothing to remove when the camera
+     * leaves a Segment.
+     */
+    @Override
+    public List<Node> getPreviousSegment(final Vector2D playerPosition) {
+        return List.of();
+    }
+
+    @Override
+    public void update(final double cameraX) {
+        final int first = (int) Math.floor(cameraX / MapConstants.getTilesize()) - MARGIN;
+        if (first == this.firstColumn) {
+            return;
+        }
+        this.firstColumn = first;
+        this.canvas.setLayoutX(first * MapConstants.getTilesize());
+        final GraphicsContext graphics = this.canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, this.canvas.getWidth(), this.canvas.getHeight());
+        for (int column = 0; column < this.columns; column++) {
+            for (int row = 0; row < this.grid.getHeight(); row++) {
+                final Image image = this.grid.getImage(first + column, row);
+                if (image != null) {
+                    graphics.drawImage(image, column * MapConstants.getTilesize(), row * MapConstants.getTilesize());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void segmentLoaded(final List<Segment> window) {
+        this.loaded = new TileImageGrid(window, this.atlas);
+    }
+
+    @Override
+    public void segmentAppended(final int index, final Segment segment) {
+        this.grid = this.loaded;
+        this.loaded = null;
+        this.firstColumn = Integer.MIN_VALUE;
+    }
+}
@@ -0,0 +1,43 @@
+package view.map;
+
+import java.util.List;
+
+import controller.LevelStreamer;
+import javafx.scene.Node;
+import util.Vector2D;
+
+/**
+ * Draws the Tiles of the Level. When the Level is streamed, it is told about
+ * the Segments that are appended and evicted.
+ */
+public interface LevelRenderer extends LevelStreamer.Listener {
+
+    /**
+     * Returns the nodes that draw the Segments visible from the player's position.
+     * @param playerPosition
+     * @return the nodes to be added to the scene.
+     */
+    List<Node> displaySegments(Vector2D playerPosition);
+
+    /**
+     * Returns the nodes currently displayed.
+     * @return the displayed nodes.
+     */
+    List<Node> getDisplayed();
+
+    /**
+     * Returns the nodes drawing the Segment before the one the player is traversing.
+     * @param playerPosition
+     * @return the nodes to be removed from the scene once the camera has left the Segment.
+     */
+    List<? extends Node> getPreviousSegment(Vector2D playerPosition);
+
+    /**
+     * Updates the drawing for the current position of the camera. It's called
+     * for every frame.
+     * @param cameraX the left side of the camera, in pixels.
+     */
+    default void update(final double cameraX) {
+        // nothing to update by default: the scene graph follows the camera.
+    }
+}
@@ -1,22 +1,29 @@
 package view.map;
 
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
-import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
 import model.map.Level;
+import model.map.Segment;
 import util.Vector2D;
 
  /**
  * 
  * Implements the View side of the Level.
  */
-public class LevelView {
+public class LevelView implements LevelRenderer {
 
     private final Level level;
-    private List<Group> displayed;
+    private List<Node> displayed;
     private final AutotileManager atManager;
+    /**
+     * The images autotiled on the loading thread for the Segment about to be appended.
+     */
+    private volatile TileImageGrid loaded;
 
     /**
      * 
@@ -25,54 +32,76 @@ public class LevelView {
      */
     public LevelView(final Level level) throws FileNotFoundException {
         this.level = level;
-        final List<List<Vector2D>> segments = new LinkedList<>();
-        List<Vector2D> tiles;
-        for (int i = 0; i < level.getSegments().size(); i++) {
-            tiles = new LinkedList<>();
-            for (int j = 0; j < level.getSegments().get(i).getTileables().size(); j++) {
-                tiles.add(level.getSegments().get(i).getTileables().get(j));
-            }
-            segments.add(tiles);
+        this.atManager = new AutotileManager(tileablesOf(level.getSegments()), level);
+    }
+
+    /**
+     * Lists the tileable Tiles of some Segments. Every Segment's grid is
+     * scanned once, so the time grows with the number of cells.
+     * @param segments
+     * @return the positions of the tileable Tiles of every Segment, in the same order.
+     */
+    public static List<List<Vector2D>> tileablesOf(final List<Segment> segments) {
+        final List<List<Vector2D>> tileables = new ArrayList<>(segments.size());
+        for (final Segment segment : segments) {
+            tileables.add(segment.getTileables());
         }
-        this.atManager = new AutotileManager(segments, level);
+        return tileables;
     }
 
     /**
      * Displays only the visible Segments for performance.
      * @param playerPosition
-     * @return a list of Groups, each is all the ImageViews from a Segment.
+     * @return a list of the ImageViews of the Tiles from the visible Segments.
      */
-    public List<Group> displaySegments(final Vector2D playerPosition) {
-        final List<Group> nodes = new LinkedList<>();
-        nodes.addAll(atManager.getSegment(level.getSegments().indexOf(level.getSegmentAtPosition(playerPosition))));
-        if (level.getSegmentAtPositionOffset(playerPosition, 1).isPresent()) {
-            nodes.addAll(atManager.getSegment(
-                    level.getSegments().indexOf(level.getSegmentAtPositionOffset(playerPosition, 1).get())));
+    @Override
+    public List<Node> displaySegments(final Vector2D playerPosition) {
+        final List<Node> nodes = new LinkedList<>();
+        final int index = level.getSegmentIndex(playerPosition.getX());
+        nodes.addAll(atManager.getSegment(index));
+        if (index + 1 < level.getSegmentCount()) {
+            nodes.addAll(atManager.getSegment(index + 1));
         }
-        if (level.getSegmentAtPositionOffset(playerPosition, -1).isPresent()) {
-            nodes.addAll(atManager.getSegment(
-                    level.getSegments().indexOf(level.getSegmentAtPositionOffset(playerPosition, -1).get())));
+        if (index > 0) {
+            nodes.addAll(atManager.getSegment(index - 1));
         }
         displayed = nodes;
         return nodes;
     }
 
     /**
-     * Returns the currently displayed Segments' Tile ImageViews, bundled in a List of Groups.
+     * Returns the currently displayed Segments' Tile ImageViews.
      * @return the displayed Segments' Tile ImageViews.
      */
-    public List<Group> getDisplayed() {
+    @Override
+    public List<Node> getDisplayed() {
         return displayed;
     }
 
      /**
-     * Returns the Segment before the one the player is traversing's Tile ImageViews, bundled in a List of Groups.
+     * Returns the Segment before the one the player is traversing's Tile ImageViews.
      * @param playerPosition
      * @return the Segment before the one the player is traversing's Tile ImageViews.
      */
-    public List<Group> getPreviousSegment(final Vector2D playerPosition) {
-        return atManager.getSegment(
-                level.getSegments().indexOf(level.getSegmentAtPositionOffset(playerPosition, -1).get()));
+    @Override
+    public List<ImageView> getPreviousSegment(final Vector2D playerPosition) {
+        return atManager.getSegment(level.getSegmentIndex(playerPosition.getX()) - 1);
+    }
+
+    @Override
+    public void segmentLoaded(final List<Segment> window) {
+        this.loaded = atManager.autotile(window);
+    }
+
+    @Override
+    public void segmentAppended(final int index, final Segment segment) {
+        atManager.addSegment(index, segment, this.loaded);
+        this.loaded = null;
+    }
+
+    @Override
+    public void segmentEvicted(final int index, final Segment segment) {
+        atManager.removeSegment(index);
     }
 
 }
@@ -0,0 +1,101 @@
+package view.map;
+
+import java.util.BitSet;
+import java.util.List;
+
+import javafx.scene.image.Image;
+import model.map.Level;
+import model.map.Segment;
+import util.Vector2D;
+import util.map.AutotileMask;
+
+/**
+ * The autotiled images of every Tile of some consecutive Segments, laid out on
+ * the Level's grid.
+ */
+public class TileImageGrid {
+
+    private final int firstColumn;
+    private final int width;
+    private final int height;
+    private final Image[] images;
+
+    /**
+     * Autotiles the Tiles of the Level.
+     *
+     * @param level the Level to draw
+     * @param atlas where the images of the Tiles are cached
+     */
+    public TileImageGrid(final Level level, final AutotileAtlas atlas) {
+        this(level.getSegments(), atlas);
+    }
+
+    /**
+     * Autotiles the Tiles of some consecutive Segments. The Tiles on the edges
+     * are autotiled as if there was nothing beyond them.
+     *
+     * @param segments the Segments to draw, from left to right
+     * @param atlas    where the images of the Tiles are cached
+     */
+    public TileImageGrid(final List<Segment> segments, final AutotileAtlas atlas) {
+        if (segments.isEmpty()) {
+            this.firstColumn = 0;
+            this.width = 0;
+        } else {
+            final Segment last = segments.get(segments.size() - 1);
+            this.firstColumn = (int) Math.floor(segments.get(0).getOffset());
+            this.width = (int) Math.ceil(last.getOffset() + last.getWidth()) - this.firstColumn;
+        }
+        this.height = segments.stream().mapToInt(Segment::getHeight).max().orElse(0);
+        this.images = new Image[this.width * this.height];
+        final BitSet tiled = new BitSet(this.width * this.height);
+        for (final Segment segment : segments) {
+            for (final Vector2D tile : segment.getTileables()) {
+                tiled.set(this.indexOf((int) tile.getX(), (int) tile.getY()));
+            }
+        }
+        for (final Segment segment : segments) {
+            for (final Vector2D tile : segment.getTileables()) {
+                final int x = (int) tile.getX();
+                final int y = (int) tile.getY();
+                final String path = segment.getTileType(x - (int) segment.getOffset(), y).getPath();
+                this.images[this.indexOf(x, y)] = atlas.getVariant(path,
+                        AutotileMask.of(tiled, this.width, this.height, x - this.firstColumn, y));
+            }
+        }
+    }
+
+    /**
+     * Returns the image of the Tile in the given cell of the Level.
+     *
+     * @param x
+     * @param y
+     * @return the image, or null if there is no Tile to draw in the cell
+     */
+    public Image getImage(final int x, final int y) {
+        if (x < this.firstColumn || x >= this.firstColumn + this.width || y < 0 || y >= this.height) {
+            return null;
+        }
+        return this.images[this.indexOf(x, y)];
+    }
+
+    /**
+     * Returns the width of the grid, in Tiles.
+     * @return the width.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Returns the height of the grid, in Tiles.
+     * @return the height.
+     */
+    public int getHeight() {
+        return this.height;
+    }
+
+    private int indexOf(final int x, final int y) {
+        return y * this.width + x - this.firstColumn;
+    }
+}
@@ -0,0 +1,20 @@
+package view.sounds;
+
+import view.sounds.SoundManager.Sounds;
+
+/**
+ * A SoundSink that plays nothing, so that the game can run where there is no
+ * audio device or no JavaFX toolkit at all. The clips are never loaded.
+ */
+public class SilentSoundSink implements SoundSink {
+
+    @Override
+    public void playSound(final Sounds sound) {
+        // nothing to play
+    }
+
+    @Override
+    public void stopSound(final Sounds sound) {
+        // nothing to stop
+    }
+}
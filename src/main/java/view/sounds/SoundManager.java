@@ -8,13 +8,14 @@ import javafx.scene.media.AudioClip;
  * The only callable method is playSound(Sounds).
  *
  */
-public class SoundManager {
+public class SoundManager implements SoundSink {
 
     /**
      * Plays a sound.
      * 
      * @param sound to be played.
      */
+    @Override
     public void playSound(final Sounds sound) {
         if (sound.equals(Sounds.MAIN_THEME) || sound.equals(Sounds.METAL_SHOT_HAHA)) {
             sound.getAudioClip().setPriority(1);
@@ -27,6 +28,7 @@ public class SoundManager {
      * 
      * @param sound to be stopped.
      */
+    @Override
     public void stopSound(final Sounds sound) {
         sound.getAudioClip().stop();
     }
@@ -39,98 +41,102 @@ public class SoundManager {
         /**
          * Rifle firing sound.
          */
-        RIFLE_FIRING(new AudioClip(ClassLoader.getSystemResource("sounds/rifle.mp3").toExternalForm())),
+        RIFLE_FIRING("sounds/rifle.mp3"),
 
         /**
          * Main menu sound.
          */
-        METAL_SHOT_HAHA(new AudioClip(ClassLoader.getSystemResource("sounds/metalshotHaha.mp3").toExternalForm())),
+        METAL_SHOT_HAHA("sounds/metalshotHaha.mp3"),
 
         /**
          * Main theme.
          */
-        MAIN_THEME(new AudioClip(ClassLoader.getSystemResource("sounds/mainTheme.mp3").toExternalForm())),
+        MAIN_THEME("sounds/mainTheme.mp3"),
 
         /**
          * Reload sound.
          */
-        RELOAD(new AudioClip(ClassLoader.getSystemResource("sounds/reload.mp3").toExternalForm())),
+        RELOAD("sounds/reload.mp3"),
 
         /**
          * Hurt(1) sound.
          */
-        HURT_1(new AudioClip(ClassLoader.getSystemResource("sounds/hurt1.mp3").toExternalForm())),
+        HURT_1("sounds/hurt1.mp3"),
 
         /**
          * Hurt(2) sound.
          */
-        HURT_2(new AudioClip(ClassLoader.getSystemResource("sounds/hurt2.mp3").toExternalForm())),
+        HURT_2("sounds/hurt2.mp3"),
 
         /**
          * Hurt(3) sound.
          */
-        HURT_3(new AudioClip(ClassLoader.getSystemResource("sounds/hurt3.mp3").toExternalForm())),
+        HURT_3("sounds/hurt3.mp3"),
 
         /**
          * Hurt(4) sound.
          */
-        HURT_4(new AudioClip(ClassLoader.getSystemResource("sounds/hurt4.mp3").toExternalForm())),
+        HURT_4("sounds/hurt4.mp3"),
 
         /**
          * Jump(1) sound.
          */
-        JUMP_1(new AudioClip(ClassLoader.getSystemResource("sounds/jump1.mp3").toExternalForm())),
+        JUMP_1("sounds/jump1.mp3"),
 
         /**
          * Jump(2) sound.
          */
-        JUMP_2(new AudioClip(ClassLoader.getSystemResource("sounds/jump2.mp3").toExternalForm())),
+        JUMP_2("sounds/jump2.mp3"),
 
         /**
          * Jump(3) sound.
          */
-        JUMP_3(new AudioClip(ClassLoader.getSystemResource("sounds/jump3.mp3").toExternalForm())),
+        JUMP_3("sounds/jump3.mp3"),
 
         /**
          * Jump(4) sound.
          */
-        JUMP_4(new AudioClip(ClassLoader.getSystemResource("sounds/jump4.mp3").toExternalForm())),
+        JUMP_4("sounds/jump4.mp3"),
 
         /**
          * Death(1) sound.
          */
-        DIE_1(new AudioClip(ClassLoader.getSystemResource("sounds/die1.mp3").toExternalForm())),
+        DIE_1("sounds/die1.mp3"),
 
         /**
          * Death(2) sound.
          */
-        DIE_2(new AudioClip(ClassLoader.getSystemResource("sounds/die2.mp3").toExternalForm())),
+        DIE_2("sounds/die2.mp3"),
 
         /**
          * Death(3) sound.
          */
-        DIE_3(new AudioClip(ClassLoader.getSystemResource("sounds/die3.mp3").toExternalForm())),
+        DIE_3("sounds/die3.mp3"),
 
         /**
          * Death(4) sound.
          */
-        DIE_4(new AudioClip(ClassLoader.getSystemResource("sounds/die4.mp3").toExternalForm()));
+        DIE_4("sounds/die4.mp3");
 
-        private final AudioClip audioClip;
+        private final String path;
+        private AudioClip audioClip;
 
         /**
-         * Creates and loads sounds.
+         * Creates a sound, its clip will be loaded the first time it is needed.
          * 
-         * @param audioClip - Clip to load
+         * @param path - path of the clip in the resources
          */
-        Sounds(final AudioClip audioClip) {
-            this.audioClip = audioClip;
+        Sounds(final String path) {
+            this.path = path;
         }
 
         /**
          * @return the audioClip object associated with "this" sound.
          */
         public AudioClip getAudioClip() {
+            if (this.audioClip == null) {
+                this.audioClip = new AudioClip(ClassLoader.getSystemResource(this.path).toExternalForm());
+            }
             return this.audioClip;
         }
     }
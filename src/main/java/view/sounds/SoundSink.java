@@ -0,0 +1,23 @@
+package view.sounds;
+
+import view.sounds.SoundManager.Sounds;
+
+/**
+ * Where the sounds of the game are played.
+ */
+public interface SoundSink {
+
+    /**
+     * Plays a sound.
+     * 
+     * @param sound to be played.
+     */
+    void playSound(Sounds sound);
+
+    /**
+     * Immediately stops a sound.
+     * 
+     * @param sound to be stopped.
+     */
+    void stopSound(Sounds sound);
+}
@@ -0,0 +1,53 @@
+package maptest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import util.map.AutotileMask;
+
+/**
+ * JUnit to test the autotile neighbour masks.
+ */
+public class AutotileMaskTest {
+
+    private static final int WIDTH = 3;
+    private static final int HEIGHT = 3;
+
+    @Test
+    void neighboursTest() {
+        final BitSet occupied = new BitSet(WIDTH * HEIGHT);
+        // the top row and the cell on the right of the center
+        occupied.set(0, WIDTH);
+        occupied.set(WIDTH + 2);
+        assertEquals(AutotileMask.TOP | AutotileMask.RIGHT | AutotileMask.TOP_LEFT | AutotileMask.TOP_RIGHT,
+                AutotileMask.of(occupied, WIDTH, HEIGHT, 1, 1));
+        // cells outside of the grid are empty
+        assertEquals(AutotileMask.RIGHT, AutotileMask.of(occupied, WIDTH, HEIGHT, 0, 0));
+    }
+
+    @Test
+    void canonicalTest() {
+        final Set<Integer> canonical = new HashSet<>();
+        for (int mask = 0; mask < AutotileMask.MASKS; mask++) {
+            canonical.add(AutotileMask.canonical(mask));
+            assertArrayEquals(AutotileMask.layers(mask), AutotileMask.layers(AutotileMask.canonical(mask)));
+        }
+        assertEquals(47, canonical.size());
+        assertEquals(AutotileMask.TOP, AutotileMask.canonical(AutotileMask.TOP | AutotileMask.TOP_LEFT));
+    }
+
+    @Test
+    void layersTest() {
+        // an isolated Tile is drawn with the outer edges and no inner corners
+        assertArrayEquals(new int[] { 0, 1, 7, 6, 16, 16, 16, 16 }, AutotileMask.layers(0));
+        // a Tile surrounded by others on every side but the top-left corner
+        assertArrayEquals(new int[] { 21, 20, 14, 15, 19, 16, 16, 16 },
+                AutotileMask.layers(AutotileMask.MASKS - 1 - AutotileMask.TOP_LEFT));
+    }
+}
@@ -0,0 +1,60 @@
+package maptest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import model.map.Segment;
+import util.Vector2D;
+import util.map.BinaryMap;
+import util.map.SegmentData;
+import util.map.TextMap;
+
+/**
+ * JUnit to test the compiled map format.
+ */
+public class BinaryMapTest {
+
+    private static final double OFFSET = 37;
+
+    @Test
+    void roundTripTest() throws IOException {
+        for (final String path : List.of("segments/map.txt", "segments/map2.txt", "segments/map3.txt",
+                "segments/map4.txt")) {
+            final SegmentData data = new TextMap(path).toSegmentData();
+            assertEquals(data, BinaryMap.read(ByteBuffer.wrap(BinaryMap.toBytes(data))));
+        }
+        final SegmentData wide = new SegmentData(3, 1, new byte[] { 0, 7, 3 }, Optional.empty(),
+                List.of(new Vector2D(2, 0)));
+        assertEquals(wide, BinaryMap.read(ByteBuffer.wrap(BinaryMap.toBytes(wide))));
+    }
+
+    @Test
+    void segmentTest() throws IOException {
+        final var text = new Segment(new TextMap("segments/map.txt"), OFFSET);
+        final var compiled = new Segment(
+                BinaryMap.read(ByteBuffer.wrap(BinaryMap.toBytes(new TextMap("segments/map.txt").toSegmentData()))),
+                OFFSET);
+        assertEquals(text.getCollidables(), compiled.getCollidables());
+        assertEquals(text.getTileables(), compiled.getTileables());
+        assertEquals(text.getPlayerSpawn(), compiled.getPlayerSpawn());
+        assertEquals(List.copyOf(text.getEnemiesSpawn()), List.copyOf(compiled.getEnemiesSpawn()));
+    }
+
+    @Test
+    void invalidTest() throws IOException {
+        final byte[] bytes = BinaryMap.toBytes(new TextMap("segments/map.txt").toSegmentData());
+        assertThrows(IOException.class, () -> BinaryMap.read(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 1))));
+        bytes[0] = 0;
+        assertThrows(IOException.class, () -> BinaryMap.read(ByteBuffer.wrap(bytes)));
+        assertEquals("segments/map.bin", BinaryMap.compiledPath("segments/map.txt"));
+        assertEquals("segments/map.bin", BinaryMap.compiledPath("segments/map.bin"));
+    }
+}
@@ -0,0 +1,77 @@
+package maptest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import model.map.Level;
+import model.map.Segment;
+import util.Vector2D;
+import util.map.SegmentFiles;
+
+/**
+ * JUnit to test the Level's Segment index.
+ */
+public class LevelTest {
+
+    private static final double WIDTH = 37;
+
+    private Level createLevel() throws IOException {
+        return new Level(List.of("segments/map.txt", "segments/map2.txt", "segments/map3.txt", "segments/map4.txt"));
+    }
+
+    @Test
+    void segmentAtPositionTest() throws IOException {
+        final var level = createLevel();
+        assertEquals(WIDTH * 4, level.getWidth());
+        assertSame(level.getSegments().get(0), level.getSegmentAtPosition(new Vector2D(0, 0)));
+        assertSame(level.getSegments().get(0), level.getSegmentAtPosition(new Vector2D(WIDTH - 0.01, 0)));
+        assertSame(level.getSegments().get(1), level.getSegmentAtPosition(new Vector2D(WIDTH, 0)));
+        assertSame(level.getSegments().get(3), level.getSegmentAtPosition(new Vector2D(WIDTH * 4 - 0.01, 0)));
+        assertEquals(-1, level.getSegmentIndex(WIDTH * 4));
+        assertEquals(-1, level.getSegmentIndex(-0.01));
+        assertThrows(IllegalArgumentException.class, () -> level.getSegmentAtPosition(new Vector2D(-1, 0)));
+    }
+
+    @Test
+    void segmentOffsetTest() throws IOException {
+        final var level = createLevel();
+        final var position = new Vector2D(WIDTH + 1, 0);
+        assertSame(level.getSegments().get(2), level.getSegmentAtPositionOffset(position, 1).get());
+        assertSame(level.getSegments().get(0), level.getSegmentAtPositionOffset(position, -1).get());
+        assertFalse(level.getSegmentAtPositionOffset(position, 3).isPresent());
+        assertEquals(2, level.getSegmentIndex(level.getSegments().get(2)));
+        assertEquals(WIDTH * 3, level.getDistance(level.getSegments().get(2)));
+    }
+
+    @Test
+    void evictTest() throws IOException {
+        final var level = new Level();
+        for (int i = 0; i < 4; i++) {
+            level.append(new Segment(SegmentFiles.read("segments/map.txt"), level.getWidth()));
+        }
+        final Segment third = level.getSegment(2);
+        assertEquals(2, level.evictBefore(2).size());
+        assertEquals(2, level.getFirstSegmentIndex());
+        assertEquals(4, level.getSegmentCount());
+        assertEquals(-1, level.getSegmentIndex(WIDTH));
+        assertEquals(2, level.getSegmentIndex(WIDTH * 2));
+        assertSame(third, level.getSegmentAtPosition(new Vector2D(WIDTH * 2, 0)));
+        assertEquals(WIDTH * 3, level.getDistance(third));
+        assertFalse(level.getSegmentAtPositionOffset(new Vector2D(WIDTH * 2, 0), -1).isPresent());
+        assertThrows(IllegalArgumentException.class, () -> level.getSegment(1));
+        assertThrows(IllegalArgumentException.class, () -> level.append(third));
+        level.append(new Segment(SegmentFiles.read("segments/map.txt"), level.getWidth()));
+        assertEquals(4, level.getSegmentIndex(WIDTH * 4));
+        assertFalse(level.isFinished());
+        level.finish();
+        assertTrue(level.isFinished());
+    }
+}
@@ -0,0 +1,58 @@
+package maptest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import model.map.Segment;
+import util.Vector2D;
+import util.map.TextMap;
+import view.map.LevelView;
+
+/**
+ * JUnit to test how the Level's view reads the Segments.
+ */
+public class LevelViewTest {
+
+    private static final String[] MAPS = { "segments/map.txt", "segments/map2.txt", "segments/map3.txt" };
+
+    /*
+     * A Segment counting the scans of its grid.
+     */
+    private static final class CountingSegment extends Segment {
+
+        private int scans;
+
+        CountingSegment(final TextMap map, final double offset) throws IOException {
+            super(map, offset);
+        }
+
+        @Override
+        public List<Vector2D> getTileables() {
+            this.scans++;
+            return super.getTileables();
+        }
+    }
+
+    @Test
+    void tileablesTest() throws IOException {
+        final List<CountingSegment> segments = new ArrayList<>();
+        double offset = 0;
+        for (final String map : MAPS) {
+            final var segment = new CountingSegment(new TextMap(map), offset);
+            segments.add(segment);
+            offset += segment.getWidth();
+        }
+        final List<List<Vector2D>> tileables = LevelView.tileablesOf(new ArrayList<>(segments));
+        assertEquals(MAPS.length, tileables.size());
+        for (int i = 0; i < MAPS.length; i++) {
+            // a scan per Segment, not one per Tile
+            assertEquals(1, segments.get(i).scans);
+            assertEquals(segments.get(i).getTileables(), tileables.get(i));
+        }
+    }
+}
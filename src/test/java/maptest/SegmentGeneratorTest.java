@@ -0,0 +1,57 @@
+package maptest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import util.Vector2D;
+import util.map.SegmentData;
+import util.map.SegmentGenerator;
+
+/**
+ * JUnit to test the procedural generation of Segments.
+ */
+public class SegmentGeneratorTest {
+
+    private static final long SEED = 42;
+    private static final int SEGMENTS = 100;
+
+    @Test
+    void deterministicTest() {
+        final var first = new SegmentGenerator(SEED);
+        final var second = new SegmentGenerator(SEED);
+        for (int i = 0; i < SEGMENTS; i++) {
+            assertEquals(first.next(), second.next());
+        }
+        assertNotEquals(new SegmentGenerator(SEED).next(), new SegmentGenerator(SEED + 1).next());
+    }
+
+    @Test
+    void spawnsTest() {
+        final var generator = new SegmentGenerator(SEED);
+        for (int i = 0; i < SEGMENTS; i++) {
+            final SegmentData data = generator.next();
+            assertEquals(i == 0, data.getPlayerSpawn().isPresent());
+            assertFalse(data.getEnemiesSpawn().isEmpty());
+            for (final Vector2D spawn : data.getEnemiesSpawn()) {
+                assertEquals(SegmentData.AIR, data.getTile((int) spawn.getX(), (int) spawn.getY()));
+                assertEquals(SegmentData.AIR, data.getTile((int) spawn.getX(), (int) spawn.getY() + 1));
+                assertTrue(data.getTile((int) spawn.getX(), (int) spawn.getY() + 2) != SegmentData.AIR);
+            }
+        }
+    }
+
+    @Test
+    void edgesTest() {
+        final var generator = new SegmentGenerator(SEED);
+        for (int i = 0; i < SEGMENTS; i++) {
+            final SegmentData data = generator.next();
+            for (int y = 0; y < data.getHeight(); y++) {
+                assertEquals(data.getTile(0, y), data.getTile(data.getWidth() - 1, y));
+            }
+        }
+    }
+}
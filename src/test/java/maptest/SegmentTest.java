@@ -0,0 +1,70 @@
+package maptest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import model.map.Segment;
+import model.map.tile.TileStone;
+import model.map.tile.TileType;
+import util.Vector2D;
+import util.map.TextMap;
+
+/**
+ * JUnit to test the Segment's positional queries.
+ */
+public class SegmentTest {
+
+    private static final double OFFSET = 37;
+
+    @Test
+    void collidableTest() throws IOException {
+        final var segment = new Segment(new TextMap("segments/map.txt"), 0);
+        assertTrue(segment.isCollidableAtPosition(new Vector2D(0.5, 14.9)));
+        assertFalse(segment.isCollidableAtPosition(new Vector2D(0.5, 13.9)));
+        assertTrue(segment.isCollidableAtPosition(new Vector2D(30, 8)));
+        assertFalse(segment.isCollidableAtPosition(new Vector2D(-0.5, 14)));
+        assertFalse(segment.isCollidableAtPosition(new Vector2D(40, 14)));
+        assertTrue(segment.getCollidableAtPosition(new Vector2D(30.2, 8.7)).isPresent());
+        assertFalse(segment.getCollidableAtPosition(new Vector2D(28.2, 8.7)).isPresent());
+    }
+
+    @Test
+    void offsetTest() throws IOException {
+        final var segment = new Segment(new TextMap("segments/map.txt"), OFFSET);
+        assertFalse(segment.isCollidableAtPosition(new Vector2D(0.5, 14.5)));
+        assertTrue(segment.isCollidableAtPosition(new Vector2D(OFFSET + 0.5, 14.5)));
+        assertEquals(new Vector2D(OFFSET + 30, 8), segment.getTilePos(new Vector2D(OFFSET + 30.9, 8.1)));
+        assertEquals(TileStone.class, segment.getTile(new Vector2D(OFFSET + 30, 8)).get().getClass());
+        assertFalse(segment.getTile(new Vector2D(OFFSET + 30.5, 8)).isPresent());
+        assertThrows(NoSuchElementException.class, () -> segment.getTilePos(new Vector2D(0, 0)));
+    }
+
+    @Test
+    void spawnTest() throws IOException {
+        final var segment = new Segment(new TextMap("segments/map.txt"), 0);
+        assertEquals(new Vector2D(2, 12), segment.getPlayerSpawn());
+        assertEquals(2, segment.getEnemiesSpawn().size());
+        assertEquals(segment.getCollidables().size(), segment.getTileables().size());
+    }
+
+    @Test
+    void tileTypeTest() throws IOException {
+        final var segment = new Segment(new TextMap("segments/map.txt"), OFFSET);
+        assertEquals(TileType.STONE, segment.getTileType(30, 8));
+        assertEquals(TileType.AIR, segment.getTile(new Vector2D(OFFSET + 28, 8)).get().getType());
+        assertEquals(new Vector2D(OFFSET + 30, 8), segment.getTile(new Vector2D(OFFSET + 30, 8)).get().getPosition());
+        assertEquals(segment.getWidth() * segment.getHeight(),
+                segment.getMap().stream().mapToInt(t -> t.size()).sum());
+        final var stones = segment.getTileSet(TileStone.class).get();
+        assertTrue(stones.stream().allMatch(t -> t.getType() == TileType.STONE));
+        assertEquals(segment.getMap().stream().filter(t -> t.iterator().next() instanceof TileStone)
+                .findFirst().get(), stones);
+    }
+}
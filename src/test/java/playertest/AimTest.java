@@ -1,6 +1,7 @@
 package playertest;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -45,4 +46,13 @@ public class AimTest {
         aim.setVertical(DirectionVertical.UP);
         assertEquals(new Pair<>(DirectionHorizontal.LEFT, DirectionVertical.UP), aim.getDirection());
     }
+
+    @Test
+    void sharedDirectionTest() {
+        final var aim = new Aim();
+        final var right = aim.getDirection();
+        aim.setVertical(DirectionVertical.UP);
+        aim.returnToHorizontal();
+        assertSame(right, aim.getDirection());
+    }
 }
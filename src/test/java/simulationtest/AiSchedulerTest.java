@@ -0,0 +1,96 @@
+package simulationtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import javax.management.InstanceNotFoundException;
+
+import org.junit.jupiter.api.Test;
+
+import controller.character.Blackboard;
+import controller.character.enemy.AiScheduler;
+import controller.character.enemy.EnemyController;
+import controller.character.enemy.FlowField;
+import model.StageImpl;
+import model.character.Enemy;
+import model.character.tools.health.SimpleHealth;
+import util.Status;
+import util.Vector2D;
+
+/**
+ * JUnit to test how often the enemies think.
+ */
+public class AiSchedulerTest {
+
+    private static final int ENEMIES = 16;
+
+    private static List<EnemyController> createEnemies(final StageImpl stage, final Blackboard blackboard,
+            final Status status) {
+        final var field = new FlowField(stage.getLevel(), stage.getPlayer());
+        final List<EnemyController> enemies = new ArrayList<>();
+        for (int i = 0; i < ENEMIES; i++) {
+            final var enemy = new Enemy(new Vector2D(stage.getPlayer().getPosition()), new Vector2D(1, 1.5),
+                    new SimpleHealth());
+            enemy.setStatus(status);
+            enemies.add(new EnemyController(stage.getLevel(), enemy, blackboard, new SplittableRandom(i), field));
+        }
+        return enemies;
+    }
+
+    private static int thinking(final List<EnemyController> enemies) {
+        return (int) enemies.stream().filter(EnemyController::isThinking).count();
+    }
+
+    @Test
+    void periodTest() throws InstanceNotFoundException, IOException {
+        final var stage = new StageImpl();
+        final var blackboard = new Blackboard(stage.getLevel(), stage.getPlayer(), stage.getEnemies());
+        blackboard.update();
+        final var scheduler = new AiScheduler(blackboard);
+        final var idle = createEnemies(stage, blackboard, Status.IDLE);
+        scheduler.schedule(idle);
+        assertEquals(ENEMIES, thinking(idle));
+        final int[] thoughts = new int[ENEMIES];
+        for (int tick = 0; tick < AiScheduler.IDLE_PERIOD; tick++) {
+            scheduler.schedule(idle);
+            // staggered over the period
+            assertEquals(ENEMIES / AiScheduler.IDLE_PERIOD, thinking(idle));
+            for (int i = 0; i < ENEMIES; i++) {
+                thoughts[i] += idle.get(i).isThinking() ? 1 : 0;
+            }
+        }
+        for (final int count : thoughts) {
+            assertEquals(1, count);
+        }
+        // close to the player they think every tick
+        final var active = createEnemies(stage, blackboard, Status.ACTIVE);
+        scheduler.schedule(active);
+        scheduler.schedule(active);
+        assertEquals(ENEMIES, thinking(active));
+    }
+
+    @Test
+    void budgetTest() throws InstanceNotFoundException, IOException {
+        final var stage = new StageImpl();
+        final var blackboard = new Blackboard(stage.getLevel(), stage.getPlayer(), stage.getEnemies());
+        blackboard.update();
+        final var scheduler = new AiScheduler(blackboard);
+        final var active = createEnemies(stage, blackboard, Status.ACTIVE);
+        scheduler.setBudget(1);
+        scheduler.schedule(active);
+        active.forEach(e -> e.controllerTick(0, stage.getLevel().getWidth(), true));
+        scheduler.schedule(active);
+        assertEquals(1, thinking(active));
+        assertEquals(ENEMIES - 1, scheduler.getDeferred());
+        // without a budget the ones put off think along with the others
+        active.forEach(e -> e.controllerTick(0, stage.getLevel().getWidth(), true));
+        scheduler.setBudget(0);
+        scheduler.schedule(active);
+        assertEquals(ENEMIES, thinking(active));
+        assertEquals(0, scheduler.getDeferred());
+    }
+}
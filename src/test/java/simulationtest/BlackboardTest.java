@@ -0,0 +1,92 @@
+package simulationtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.InstanceNotFoundException;
+
+import org.junit.jupiter.api.Test;
+
+import controller.character.Blackboard;
+import model.StageImpl;
+import model.character.Enemy;
+import model.character.tools.health.SimpleHealth;
+import util.Vector2D;
+
+/**
+ * JUnit to test what the bots know about the match.
+ */
+public class BlackboardTest {
+
+    private static final int NEAR = 3;
+    private static final int FAR = 2;
+
+    @Test
+    void updateTest() throws InstanceNotFoundException, IOException {
+        final var stage = new StageImpl();
+        final var level = stage.getLevel();
+        final var player = stage.getPlayer();
+        stage.getEnemies().clear();
+        final double next = level.getDistance(level.getSegmentAtPosition(player.getPosition()));
+        final List<Enemy> near = new ArrayList<>();
+        for (int i = 0; i < NEAR; i++) {
+            final var enemy = new Enemy(new Vector2D(player.getPosition().getX() + i, player.getPosition().getY()),
+                    new Vector2D(1, 1.5), new SimpleHealth());
+            near.add(enemy);
+            stage.getEnemies().add(enemy);
+        }
+        final List<Enemy> far = new ArrayList<>();
+        for (int i = 0; i < FAR; i++) {
+            final var enemy = new Enemy(new Vector2D(next + i, player.getPosition().getY()),
+                    new Vector2D(1, 1.5), new SimpleHealth());
+            far.add(enemy);
+            stage.getEnemies().add(enemy);
+        }
+        final var blackboard = new Blackboard(level, player, stage.getEnemies());
+        blackboard.update();
+
+        final int segment = level.getSegmentIndex(player.getPosition().getX());
+        assertEquals(segment, blackboard.getPlayerSegment());
+        assertEquals(player.getPosition().getX(), blackboard.getPlayerX());
+        assertEquals(player.getPosition().getX() + player.getHitbox().getX() / 2, blackboard.getPlayerCenterX());
+        assertEquals((int) Math.floor(blackboard.getPlayerCenterY()), blackboard.getPlayerRow());
+        assertEquals(NEAR, blackboard.getEnemiesIn(segment));
+        assertEquals(near, blackboard.getVisibleEnemies());
+        assertEquals(segment + 1, level.getSegmentIndex(next));
+        assertEquals(FAR, blackboard.getEnemiesIn(segment + 1));
+        assertEquals(0, blackboard.getEnemiesIn(level.getSegmentCount()));
+        for (final Enemy enemy : near) {
+            assertSame(level.getSegmentAtPosition(player.getPosition()), blackboard.getSegmentOf(enemy));
+        }
+
+        // an enemy is forgotten from the Segment it was counted on, even after it walked onto another one
+        far.get(0).getPosition().setX(next - 1);
+        blackboard.enemyRemoved(far.get(0));
+        assertEquals(NEAR, blackboard.getEnemiesIn(segment));
+        assertEquals(FAR - 1, blackboard.getEnemiesIn(segment + 1));
+        assertEquals(near, blackboard.getVisibleEnemies());
+        // or out of the Level
+        far.get(1).getPosition().setX(-1);
+        blackboard.enemyRemoved(far.get(1));
+        assertEquals(0, blackboard.getEnemiesIn(segment + 1));
+        assertNull(blackboard.getSegmentOf(far.get(1)));
+        // and only once
+        blackboard.enemyRemoved(far.get(1));
+        assertEquals(NEAR, blackboard.getEnemiesIn(segment));
+
+        // the dead are forgotten during the tick, even after they moved
+        for (final Enemy enemy : near) {
+            enemy.getPosition().setX(next);
+            blackboard.enemyRemoved(enemy);
+        }
+        assertEquals(0, blackboard.getEnemiesIn(segment));
+        assertTrue(blackboard.getVisibleEnemies().isEmpty());
+        assertNull(blackboard.getSegmentOf(near.get(0)));
+    }
+}
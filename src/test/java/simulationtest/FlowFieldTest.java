@@ -0,0 +1,97 @@
+package simulationtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import controller.character.enemy.FlowField;
+import model.character.Enemy;
+import model.character.tools.health.SimpleHealth;
+import model.map.Level;
+import model.map.NavGraph;
+import model.map.Segment;
+import util.Vector2D;
+import util.map.SegmentData;
+
+/**
+ * JUnit to test the navigation of the enemies towards the player.
+ */
+public class FlowFieldTest {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 6;
+    private static final int STEP = 5;
+    private static final int GROUND = HEIGHT - 2;
+    private static final Vector2D HITBOX = new Vector2D(1, 1.5);
+
+    /*
+     * A floor with a block two Tiles high in the middle.
+     */
+    private Segment createSegment() {
+        final byte[] tiles = new byte[WIDTH * HEIGHT];
+        for (int x = 0; x < WIDTH; x++) {
+            tiles[(HEIGHT - 1) * WIDTH + x] = SegmentData.STONE;
+        }
+        tiles[(HEIGHT - 2) * WIDTH + STEP] = SegmentData.STONE;
+        tiles[(HEIGHT - 3) * WIDTH + STEP] = SegmentData.STONE;
+        return new Segment(new SegmentData(WIDTH, HEIGHT, tiles, Optional.empty(), List.of()), 0);
+    }
+
+    private static Enemy standing(final int column, final int row) {
+        return new Enemy(new Vector2D(column, row + 1 - HITBOX.getY()), HITBOX, new SimpleHealth());
+    }
+
+    @Test
+    void graphTest() {
+        final NavGraph graph = createSegment().getNavigation();
+        assertEquals(WIDTH, graph.getNodeCount());
+        assertEquals(NavGraph.NONE, graph.getNode(STEP, GROUND));
+        final int top = graph.getNode(STEP, GROUND - 2);
+        assertTrue(top != NavGraph.NONE);
+        assertEquals(top, graph.getNodeBelow(STEP, 0));
+        final int before = graph.getNode(STEP - 1, GROUND);
+        boolean climbs = false;
+        for (int e = graph.getOutStart(before); e < graph.getOutEnd(before); e++) {
+            climbs |= graph.getTarget(e) == top;
+        }
+        assertTrue(climbs);
+        boolean drops = false;
+        for (int e = graph.getInStart(graph.getNode(STEP + 1, GROUND)); e < graph
+                .getInEnd(graph.getNode(STEP + 1, GROUND)); e++) {
+            drops |= graph.getSource(e) == top;
+        }
+        assertTrue(drops);
+    }
+
+    @Test
+    void fieldTest() {
+        final Level level = new Level();
+        level.append(createSegment());
+        final Enemy player = standing(WIDTH - 2, GROUND);
+        final FlowField field = new FlowField(level, player);
+        final Enemy enemy = standing(1, GROUND);
+        assertEquals(FlowField.NONE, field.getNode(enemy));
+        field.update();
+        final int node = field.getNode(enemy);
+        assertEquals(1, field.getDirection(node));
+        assertFalse(field.isJump(node));
+        assertEquals(WIDTH - 3, field.getDistance(node));
+        final int step = field.getNode(standing(STEP - 1, GROUND));
+        assertTrue(field.isJump(step));
+        assertEquals(0, field.getDirection(field.getNode(player)));
+        // the player jumps over the block, the field follows where it lands once it may search again
+        player.setPosition(1, 0);
+        field.update();
+        assertEquals(1, field.getDirection(node));
+        for (int i = 1; i < FlowField.REBUILD_TICKS; i++) {
+            field.update();
+        }
+        assertEquals(0, field.getDirection(node));
+        assertEquals(-1, field.getDirection(field.getNode(standing(WIDTH - 1, GROUND))));
+    }
+}
@@ -0,0 +1,92 @@
+package simulationtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import javax.management.InstanceNotFoundException;
+
+import org.junit.jupiter.api.Test;
+
+import controller.HeadlessMatch;
+import controller.HeadlessMatch.Outcome;
+import controller.Simulation;
+import controller.SoundsController;
+import model.StageImpl;
+import model.character.Enemy;
+import model.character.tools.health.SimpleHealth;
+import model.map.Level;
+import util.Pair;
+import util.RandomSource;
+import util.Vector2D;
+import view.sounds.SilentSoundSink;
+
+/**
+ * JUnit to test the simulation of a match without the view.
+ */
+public class HeadlessMatchTest {
+
+    private static final int MAX_TICKS = 600;
+    private static final int CROWD = 200;
+    private static final long SEED = 7;
+
+    @Test
+    void segmentBoundsTest() throws InstanceNotFoundException, IOException {
+        final var stage = new StageImpl();
+        assertEquals(new Pair<>(0d, 37d), Simulation.segmentBounds(stage).get());
+    }
+
+    @Test
+    void playTest() throws InstanceNotFoundException, IOException {
+        final var match = new HeadlessMatch();
+        final Outcome outcome = match.play(MAX_TICKS);
+        assertTrue(match.getTicks() <= MAX_TICKS);
+        if (outcome == Outcome.TIMEOUT) {
+            assertEquals(MAX_TICKS, match.getTicks());
+        }
+        assertEquals(match.getSimulation().getStage().getEnemies().size(),
+                match.getSimulation().getEnemiesController().size());
+    }
+
+    @Test
+    void seedTest() throws InstanceNotFoundException, IOException {
+        final var first = new HeadlessMatch(SEED);
+        final var second = new HeadlessMatch(SEED);
+        assertEquals(first.play(MAX_TICKS), second.play(MAX_TICKS));
+        assertEquals(first.getTicks(), second.getTicks());
+        assertEquals(first.getKills(), second.getKills());
+        assertEquals(first.getSimulation().getStage().getPlayer().getPosition(),
+                second.getSimulation().getStage().getPlayer().getPosition());
+    }
+
+    @Test
+    void crowdTest() throws InstanceNotFoundException, IOException {
+        final var first = createCrowd();
+        final var second = createCrowd();
+        for (int i = 0; i < MAX_TICKS && !first.isPlayerDead(); i++) {
+            assertEquals(first.tick(), second.tick());
+        }
+        final var enemies = List.copyOf(first.getStage().getEnemies());
+        final var others = List.copyOf(second.getStage().getEnemies());
+        assertEquals(first.getEnemiesController().size(), enemies.size());
+        assertEquals(enemies.size(), others.size());
+        for (int i = 0; i < enemies.size(); i++) {
+            assertEquals(enemies.get(i).getPosition(), others.get(i).getPosition());
+        }
+        assertTrue(enemies.stream().anyMatch(e -> e.getPosition().getY() != 9));
+    }
+
+    /*
+     * More enemies than a single thread thinks in a tick.
+     */
+    private Simulation createCrowd() throws InstanceNotFoundException, IOException {
+        final var stage = new StageImpl(new Level(StageImpl.SEGMENTS), new RandomSource(SEED));
+        for (int i = 0; i < CROWD; i++) {
+            stage.getEnemies().add(new Enemy(new Vector2D(2 + i % 30, 9), new Vector2D(1, 1.5), new SimpleHealth()));
+        }
+        return new Simulation(stage, new SoundsController(new SilentSoundSink(), stage.getRandom().split()),
+                Simulation.segmentBounds(stage));
+    }
+}
@@ -0,0 +1,111 @@
+package simulationtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.management.InstanceNotFoundException;
+
+import org.junit.jupiter.api.Test;
+
+import controller.InputRecorder;
+import controller.InputRecorder.LevelKind;
+import controller.InputReplay;
+import controller.PlayerInput;
+import controller.Simulation;
+import controller.SoundsController;
+import model.StageImpl;
+import model.map.Level;
+import util.Pair;
+import util.RandomSource;
+import util.direction.DirectionHorizontal;
+import util.direction.DirectionVertical;
+import view.sounds.SilentSoundSink;
+
+/**
+ * JUnit to test the recording of the player's input and its replay.
+ */
+public class InputReplayTest {
+
+    private static final long SEED = 7;
+    private static final int TICKS = 300;
+    private static final int RUN = 40;
+
+    private static byte[] record() throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (var recorder = new InputRecorder(bytes, SEED, LevelKind.BUNDLED, 0)) {
+            final var bounds = new Pair<>(0d, 37d);
+            for (int i = 0; i < TICKS; i++) {
+                // runs right, jumping and firing every now and then
+                final int jump = i / RUN % 2 == 0 ? PlayerInput.JUMP : 0;
+                recorder.record(PlayerInput.RIGHT | PlayerInput.FIRE | jump, i < TICKS / 2 ? bounds
+                        : new Pair<>(1d, 38d));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    void formatTest() throws IOException {
+        final var replay = new InputReplay(new ByteArrayInputStream(record()));
+        assertEquals(TICKS, replay.getTicks());
+        assertEquals(SEED, replay.getSeed());
+        assertEquals(LevelKind.BUNDLED, replay.getLevelKind());
+        assertThrows(IOException.class, () -> new InputReplay(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5 })));
+    }
+
+    @Test
+    void replayTest() throws IOException, InstanceNotFoundException {
+        final var replay = new InputReplay(new ByteArrayInputStream(record()));
+        assertEquals(TICKS, replay.play().length);
+        final var first = replay.getSimulation().getStage();
+        replay.play();
+        final var second = replay.getSimulation().getStage();
+        assertEquals(first.getPlayer().getPosition(), second.getPlayer().getPosition());
+        assertEquals(first.getPlayer().getHealth().getHealth(), second.getPlayer().getHealth().getHealth());
+        assertEquals(first.getEnemies().size(), second.getEnemies().size());
+        assertEquals(first.getBullets().size(), second.getBullets().size());
+    }
+
+    @Test
+    void pollTest() {
+        final var input = new PlayerInput();
+        input.press(PlayerInput.JUMP | PlayerInput.LEFT);
+        input.release(PlayerInput.JUMP);
+        assertEquals(PlayerInput.JUMP | PlayerInput.LEFT, input.poll());
+        assertEquals(PlayerInput.LEFT, input.poll());
+        input.release(PlayerInput.LEFT);
+        assertEquals(0, input.poll());
+    }
+
+    @Test
+    void heldTest() throws IOException, InstanceNotFoundException {
+        final var stage = new StageImpl(new Level(StageImpl.SEGMENTS), new RandomSource(SEED));
+        stage.getEnemies().clear();
+        final var sounds = new SoundsController(new SilentSoundSink(), stage.getRandom().split());
+        final var simulation = new Simulation(stage, sounds, Simulation.segmentBounds(stage));
+        final var player = stage.getPlayer();
+        simulation.tick(PlayerInput.LEFT | PlayerInput.UP);
+        // the player is moved and aimed by something else while the buttons are held, as after a focus change
+        player.setLeft(false);
+        player.getAim().returnToHorizontal();
+        player.getAim().setHorizontal(DirectionHorizontal.RIGHT);
+        simulation.tick(PlayerInput.LEFT | PlayerInput.UP);
+        assertTrue(player.isLeft());
+        assertEquals(DirectionHorizontal.LEFT, player.getAim().getDirection().getX());
+        assertEquals(DirectionVertical.UP, player.getAim().getDirection().getY());
+        // the last button pressed wins, and the other one aims again once it's released
+        simulation.tick(PlayerInput.LEFT | PlayerInput.RIGHT | PlayerInput.UP);
+        assertEquals(DirectionHorizontal.RIGHT, player.getAim().getDirection().getX());
+        simulation.tick(PlayerInput.LEFT | PlayerInput.UP);
+        assertEquals(DirectionHorizontal.LEFT, player.getAim().getDirection().getX());
+        simulation.tick(0);
+        assertFalse(player.isLeft());
+        assertEquals(DirectionVertical.NEUTRAL, player.getAim().getDirection().getY());
+    }
+}
@@ -0,0 +1,80 @@
+package simulationtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.InstanceNotFoundException;
+
+import org.junit.jupiter.api.Test;
+
+import controller.HeadlessMatch;
+import controller.LevelStreamer;
+import model.StageImpl;
+import model.map.Level;
+import model.map.Segment;
+import util.Pair;
+import util.Vector2D;
+import util.map.SegmentFiles;
+import util.map.SegmentGenerator;
+
+/**
+ * JUnit to test the streaming of the Segments of a Level.
+ */
+public class LevelStreamerTest {
+
+    private static final double STEP = 0.25;
+    private static final int MAX_TICKS = 600;
+    private static final long SEED = 42;
+
+    @Test
+    void residentSegmentsTest() throws IOException {
+        final var level = new Level();
+        final var streamer = new LevelStreamer(level, new SegmentFiles(StageImpl.SEGMENTS));
+        final List<Integer> appended = new ArrayList<>();
+        final List<Integer> evicted = new ArrayList<>();
+        streamer.addListener(new LevelStreamer.Listener() {
+            @Override
+            public void segmentAppended(final int index, final Segment segment) {
+                appended.add(index);
+            }
+
+            @Override
+            public void segmentEvicted(final int index, final Segment segment) {
+                evicted.add(index);
+            }
+        });
+        assertEquals(2, level.getSegmentCount());
+        for (double x = 0; level.getSegmentIndex(x) >= 0; x += STEP) {
+            final Segment segment = level.getSegmentAtPosition(new Vector2D(x, 0));
+            streamer.update(new Pair<>(segment.getOffset(), level.getDistance(segment)), new Vector2D(x, 0));
+            assertTrue(level.getSegments().size() <= 3);
+        }
+        assertTrue(level.isFinished());
+        assertEquals(List.of(2, 3), appended);
+        assertEquals(List.of(0, 1), evicted);
+        assertEquals(2, level.getFirstSegmentIndex());
+    }
+
+    @Test
+    void streamedMatchTest() throws InstanceNotFoundException, IOException {
+        final var match = new HeadlessMatch(new SegmentFiles(StageImpl.SEGMENTS));
+        match.play(MAX_TICKS);
+        assertTrue(match.getSimulation().getStage().getLevel().getSegments().size() <= 3);
+        assertEquals(match.getSimulation().getStage().getEnemies().size(),
+                match.getSimulation().getEnemiesController().size());
+    }
+
+    @Test
+    void endlessMatchTest() throws InstanceNotFoundException, IOException {
+        final var match = new HeadlessMatch(new SegmentGenerator(SEED));
+        match.play(MAX_TICKS);
+        assertFalse(match.getSimulation().isLevelCompleted());
+        assertFalse(match.getSimulation().getStage().getLevel().isFinished());
+        assertTrue(match.getSimulation().getStage().getLevel().getSegments().size() <= 3);
+    }
+}
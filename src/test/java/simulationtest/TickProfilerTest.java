@@ -0,0 +1,64 @@
+package simulationtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import javax.management.InstanceNotFoundException;
+
+import org.junit.jupiter.api.Test;
+
+import controller.HeadlessMatch;
+import controller.TickProfiler;
+import controller.TickProfiler.Phase;
+import util.Histogram;
+
+/**
+ * JUnit to test the measures of the ticks.
+ */
+public class TickProfilerTest {
+
+    private static final int VALUES = 10_000;
+    private static final int TICKS = 120;
+    private static final double PRECISION = 1 / 64d;
+
+    @Test
+    void histogramTest() {
+        final var histogram = new Histogram();
+        assertEquals(0, histogram.getValueAtPercentile(0.5));
+        for (int i = 1; i <= VALUES; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(VALUES, histogram.getCount());
+        assertEquals(VALUES * 1000L, histogram.getMax());
+        assertEquals(VALUES * 1000L, histogram.getValueAtPercentile(1));
+        final long median = histogram.getValueAtPercentile(0.5);
+        assertTrue(Math.abs(median - VALUES / 2 * 1000L) <= VALUES / 2 * 1000L * PRECISION);
+        final long p99 = histogram.getValueAtPercentile(0.99);
+        assertTrue(Math.abs(p99 - VALUES * 990L) <= VALUES * 990L * PRECISION);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(1));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    void profilerTest() throws InstanceNotFoundException, IOException {
+        final var match = new HeadlessMatch();
+        final TickProfiler profiler = match.getSimulation().getProfiler();
+        match.play(TICKS);
+        assertEquals(0, profiler.getDurations(Phase.ENEMIES).getCount());
+        profiler.setEnabled(true);
+        final int played = match.getTicks();
+        match.play(played + TICKS);
+        final long measured = match.getTicks() - played;
+        for (final Phase phase : Phase.values()) {
+            assertEquals(phase == Phase.VIEW ? 0 : measured, profiler.getDurations(phase).getCount());
+        }
+        final var out = new StringWriter();
+        profiler.export(out);
+        assertEquals(Phase.values().length + 1, out.toString().lines().count());
+    }
+}
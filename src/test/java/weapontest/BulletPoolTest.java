@@ -0,0 +1,69 @@
+package weapontest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import model.character.Enemy;
+import model.character.Player;
+import model.character.Player.PlayerBuilder;
+import model.character.tools.health.SimpleHealth;
+import model.weapons.BulletPool;
+import model.weapons.R99;
+import util.Vector2D;
+
+/**
+ * JUnit to test the BulletPool class.
+ */
+public class BulletPoolTest {
+
+    private static final int BULLETS = 100;
+
+    private Player createPlayer() {
+        return new PlayerBuilder().health(new SimpleHealth()).hitbox(new Vector2D(1, 1)).lives(3)
+                .position(new Vector2D(0, 0)).weapon(new R99()).build();
+    }
+
+    @Test
+    void addTest() {
+        final var pool = new BulletPool();
+        final var player = createPlayer();
+        for (int i = 0; i < BULLETS; i++) {
+            pool.add(player);
+        }
+        assertEquals(BULLETS, pool.size());
+        assertEquals(0.5, pool.getX(BULLETS - 1));
+        assertEquals(0.5, pool.getY(BULLETS - 1));
+        assertEquals(new R99().getDamagePerBullet(), pool.getDamage(0));
+        assertSame(player, pool.getOwner(0));
+        assertEquals(BULLETS, pool.asCollection().size());
+        pool.asCollection().forEach(b -> assertEquals(new Vector2D(0.5, 0.5), b.getPosition()));
+    }
+
+    @Test
+    void tickTest() {
+        final var pool = new BulletPool();
+        pool.add(createPlayer());
+        pool.tick(0);
+        assertTrue(pool.getX(0) > 0.5);
+    }
+
+    @Test
+    void removeTest() {
+        final var pool = new BulletPool();
+        final var player = createPlayer();
+        final var enemy = new Enemy(new Vector2D(2, 2), new Vector2D(1, 1), new SimpleHealth());
+        pool.add(player);
+        pool.add(player);
+        pool.add(enemy);
+        pool.remove(0);
+        assertEquals(2, pool.size());
+        assertSame(enemy, pool.getOwner(0));
+        assertEquals(2.5, pool.getX(0));
+        pool.clear();
+        assertEquals(0, pool.size());
+        assertTrue(pool.asCollection().isEmpty());
+    }
+}
@@ -0,0 +1,96 @@
+package weapontest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import model.EntityGrid;
+import model.RayHit;
+import model.Sweep;
+import model.character.Enemy;
+import model.character.tools.health.SimpleHealth;
+import model.map.Level;
+import model.map.Segment;
+import util.Vector2D;
+import util.map.SegmentData;
+
+/**
+ * JUnit to test the continuous collisions against Tiles and hitboxes.
+ */
+public class SweepTest {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 5;
+    private static final int WALL = 5;
+    private static final double DELTA = 1e-9;
+
+    /*
+     * A Segment with a single column of stone in the middle.
+     */
+    private Level createLevel() {
+        final byte[] tiles = new byte[WIDTH * HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            tiles[y * WIDTH + WALL] = SegmentData.STONE;
+        }
+        final Level level = new Level();
+        level.append(new Segment(new SegmentData(WIDTH, HEIGHT, tiles, Optional.empty(), List.of()), 0));
+        return level;
+    }
+
+    @Test
+    void castTilesTest() {
+        final Level level = createLevel();
+        // a single step across the wall still hits it
+        assertEquals(0.25, Sweep.castTiles(level, 4, 2.5, 4, 0), DELTA);
+        assertEquals(0.5, Sweep.castTiles(level, 8, 2.5, -4, 0), DELTA);
+        assertEquals(0, Sweep.castTiles(level, 5.5, 2.5, 1, 0));
+        assertEquals(Sweep.MISS, Sweep.castTiles(level, 1, 2.5, 3, 0));
+        assertEquals(Sweep.MISS, Sweep.castTiles(level, 1, 2.5, 0, 2));
+        assertEquals(Sweep.MISS, Sweep.castTiles(level, 1, 2.5, 0, 0));
+        // outside of the Level nothing is collidable
+        assertEquals(Sweep.MISS, Sweep.castTiles(level, 8, 2.5, 5, 0));
+    }
+
+    @Test
+    void raycastTest() {
+        final Level level = createLevel();
+        final RayHit hit = new RayHit();
+        assertTrue(Sweep.raycast(level, 2.5, 0.5, 6, 3, hit));
+        assertEquals(WALL, hit.getColumn());
+        assertEquals(1, hit.getRow());
+        assertEquals(2.5 * Math.hypot(6, 3) / 6, hit.getDistance(), DELTA);
+        assertFalse(Sweep.raycast(level, 2.5, 0.5, 2, 3, hit));
+        assertFalse(Sweep.hasLineOfSight(level, 1, 2.5, 8, 2.5));
+        assertTrue(Sweep.hasLineOfSight(level, 1, 2.5, 4.5, 0.5));
+        assertTrue(Sweep.hasLineOfSight(level, 6, 2.5, 9, 4.5));
+    }
+
+    @Test
+    void sweepBoxesTest() {
+        assertEquals(0.5, Sweep.sweepBoxes(0, 0, 1, 1, 4, 0, 3, 0, 1, 1), DELTA);
+        assertEquals(0, Sweep.sweepBoxes(0, 0, 1, 1, 4, 0, 0.5, 0.5, 1, 1));
+        assertEquals(Sweep.MISS, Sweep.sweepBoxes(0, 0, 1, 1, 4, 0, 3, 2, 1, 1));
+        assertEquals(Sweep.MISS, Sweep.sweepBoxes(0, 0, 1, 1, -4, 0, 3, 0, 1, 1));
+        assertEquals(Sweep.MISS, Sweep.sweepBoxes(0, 0, 1, 1, 1, 0, 3, 0, 1, 1));
+    }
+
+    @Test
+    void findFirstTest() {
+        final var grid = new EntityGrid<Enemy>(1);
+        final var near = new Enemy(new Vector2D(3, 2), new Vector2D(1, 1.5), new SimpleHealth());
+        final var far = new Enemy(new Vector2D(6, 2), new Vector2D(1, 1.5), new SimpleHealth());
+        grid.clear(0, 0, WIDTH, HEIGHT);
+        grid.insert(far);
+        grid.insert(near);
+        assertSame(near, grid.findFirst(1, 2.5, 0.1, 0.1, 7, 0).get());
+        assertSame(far, grid.findFirst(8, 2.5, 0.1, 0.1, -3, 0).get());
+        assertTrue(grid.findFirst(1, 2.5, 0.1, 0.1, 1, 0).isEmpty());
+        assertFalse(grid.findFirst(1, 0, 0.1, 0.1, 3, 3).isEmpty());
+    }
+}